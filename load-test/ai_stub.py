@@ -0,0 +1,65 @@
+"""
+AI 일정 생성 서버(Flask) 대역 스텁 - 부하 테스트 및 장애 주입용
+
+  AI_STUB_DELAY_MS=3000 AI_STUB_FAILURE_RATE=0.1 python3 load-test/ai_stub.py
+  AI_BASE_URL=http://localhost:5001 ./gradlew bootRun
+
+환경 변수
+  AI_STUB_PORT          수신 포트 (기본 5001)
+  AI_STUB_DELAY_MS      응답 지연 (기본 3000, 생성 시간 흉내)
+  AI_STUB_FAILURE_RATE  503 응답 비율 0~1 (기본 0)
+  AI_STUB_HANG_RATE     응답 없이 멈추는 비율 0~1 (기본 0, 타임아웃/서킷 브레이커 확인용)
+"""
+import json
+import os
+import random
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+PORT = int(os.environ.get("AI_STUB_PORT", "5001"))
+DELAY_MS = int(os.environ.get("AI_STUB_DELAY_MS", "3000"))
+FAILURE_RATE = float(os.environ.get("AI_STUB_FAILURE_RATE", "0"))
+HANG_RATE = float(os.environ.get("AI_STUB_HANG_RATE", "0"))
+
+
+class Handler(BaseHTTPRequestHandler):
+
+    def do_POST(self):
+        if self.path != "/ai/generate":
+            self.send_error(404)
+            return
+
+        length = int(self.headers.get("Content-Length", "0"))
+        request = json.loads(self.rfile.read(length) or b"{}")
+
+        roll = random.random()
+        if roll < HANG_RATE:
+            time.sleep(3600)
+            return
+        if roll < HANG_RATE + FAILURE_RATE:
+            self.send_error(503, "stub failure")
+            return
+
+        time.sleep(DELAY_MS / 1000)
+        body = json.dumps({
+            "city": request.get("city"),
+            "startDate": request.get("startDate"),
+            "endDate": request.get("endDate"),
+            "days": [{"day": day, "places": ["stub-place-%d" % i for i in range(5)]}
+                     for day in range(1, 4)],
+        }, ensure_ascii=False).encode("utf-8")
+
+        self.send_response(200)
+        self.send_header("Content-Type", "application/json")
+        self.send_header("Content-Length", str(len(body)))
+        self.end_headers()
+        self.wfile.write(body)
+
+    def log_message(self, format, *args):
+        pass
+
+
+if __name__ == "__main__":
+    print("AI stub listening on :%d (delay=%dms, failure=%.2f, hang=%.2f)"
+          % (PORT, DELAY_MS, FAILURE_RATE, HANG_RATE))
+    ThreadingHTTPServer(("0.0.0.0", PORT), Handler).serve_forever()
@@ -0,0 +1,91 @@
+/*
+ * 플랫폼 스레드 vs 가상 스레드 요청 처리 비교 부하 테스트 (k6)
+ *
+ * 같은 시나리오를 두 모드로 각각 실행한 뒤 요약 결과를 비교한다.
+ *
+ *   # 1) 플랫폼 스레드 (Tomcat 기본 200 스레드)
+ *   VIRTUAL_THREADS_ENABLED=false ./gradlew bootRun
+ *   k6 run -e MODE=platform -e ACCESS_TOKEN=<토큰> --summary-export=build/k6-platform.json load-test/virtual-threads.js
+ *
+ *   # 2) 가상 스레드
+ *   VIRTUAL_THREADS_ENABLED=true ./gradlew bootRun
+ *   k6 run -e MODE=virtual -e ACCESS_TOKEN=<토큰> --summary-export=build/k6-virtual.json load-test/virtual-threads.js
+ *
+ * 비교 지표: http_req_duration p95/p99, http_reqs(처리량), http_req_failed(오류율), 동시 VU 증가에 따른 지연 변화.
+ * 가상 스레드 모드에서는 /actuator/metrics/jvm.threads.virtual.pinned 로 고정(pinning) 발생 위치도 함께 확인한다.
+ * AI 일정 생성 시나리오(ASYNC_PLAN=true)는 load-test/ai_stub.py 를 AI_BASE_URL 로 띄운 상태에서 실행한다.
+ */
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ACCESS_TOKEN = __ENV.ACCESS_TOKEN || '';
+const MODE = __ENV.MODE || 'unknown';
+const ASYNC_PLAN = __ENV.ASYNC_PLAN === 'true';
+
+const stages = [
+  { duration: '30s', target: 200 },
+  { duration: '1m', target: 1000 },
+  { duration: '1m', target: 2000 },
+  { duration: '30s', target: 0 },
+];
+
+export const options = {
+  tags: { mode: MODE },
+  scenarios: {
+    // DB 조회 (JPA)
+    nickname: {
+      executor: 'ramping-vus',
+      exec: 'nickname',
+      stages,
+    },
+    // 인증 + 프로필 조회 (JWT 검증, Redis/DB)
+    profile: {
+      executor: 'ramping-vus',
+      exec: 'profile',
+      stages,
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    'http_req_duration{scenario:nickname}': ['p(95)<500'],
+    'http_req_duration{scenario:profile}': ['p(95)<500'],
+  },
+};
+
+if (ASYNC_PLAN) {
+  // 비동기 일정 생성 작업 등록 (등록 응답 지연과 503 거절 비율 확인)
+  options.scenarios.asyncPlan = {
+    executor: 'constant-arrival-rate',
+    exec: 'asyncPlan',
+    rate: 50,
+    timeUnit: '1s',
+    duration: '2m',
+    preAllocatedVUs: 100,
+  };
+}
+
+function authHeaders() {
+  return { headers: { Authorization: `Bearer ${ACCESS_TOKEN}`, 'Content-Type': 'application/json' } };
+}
+
+export function nickname() {
+  const res = http.get(`${BASE_URL}/api/user/nickname?nickname=loadtest${__VU}_${__ITER}`);
+  check(res, { 'nickname 200': (r) => r.status === 200 });
+}
+
+export function profile() {
+  const res = http.get(`${BASE_URL}/api/profile/me`, authHeaders());
+  check(res, { 'profile 200': (r) => r.status === 200 });
+}
+
+export function asyncPlan() {
+  // 캐시를 피하도록 도시명을 매번 다르게 사용
+  const body = JSON.stringify({
+    city: `loadtest-city-${__VU}-${__ITER}`,
+    startDate: '2025-07-01',
+    endDate: '2025-07-03',
+  });
+  const res = http.post(`${BASE_URL}/api/plan?async=true`, body, authHeaders());
+  check(res, { 'plan job accepted': (r) => r.status === 202 || r.status === 503 });
+}
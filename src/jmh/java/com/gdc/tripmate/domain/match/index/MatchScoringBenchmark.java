@@ -0,0 +1,81 @@
+package com.gdc.tripmate.domain.match.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 매칭 전체 순회 채점의 작업자 수별 처리 시간 (가상 프로필 100만 개, threads=1 대비 감소 비율로 확장성 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MatchScoringBenchmark {
+
+	private static final long QUERY_PROFILE_ID = 1L;
+	private static final int TAG_COUNT = 200;
+
+	@Param({"1000000"})
+	private int profiles;
+
+	// 채점 작업자 수
+	@Param({"1", "2", "4", "8"})
+	private int threads;
+
+	@Param({"JACCARD", "WEIGHTED"})
+	private Similarity similarity;
+
+	private ForkJoinPool pool;
+	private MatchIndex index;
+	private MatchQuery query;
+
+	@Setup
+	public void setUp() {
+		pool = new ForkJoinPool(threads);
+		index = new MatchIndex(pool, 0);
+
+		SplittableRandom random = new SplittableRandom(42);
+		// 질의 프로필은 인기 태그를 많이 가져 역색인 대신 전체 순회 경로를 타도록 구성
+		List<Long> queryTags = new ArrayList<>();
+		for (long tag = 0; tag < 16; tag++) {
+			queryTags.add(tag);
+		}
+		index.upsert(new MatchProfile(QUERY_PROFILE_ID, QUERY_PROFILE_ID, "query", "female",
+				LocalDate.of(1995, 1, 1), queryTags));
+
+		for (long id = 2; id <= profiles; id++) {
+			int tagCount = 4 + random.nextInt(9);
+			List<Long> tags = new ArrayList<>(tagCount);
+			for (int i = 0; i < tagCount; i++) {
+				// 앞쪽 태그일수록 자주 선택 (인기 태그 편중)
+				tags.add((long) Math.min(random.nextInt(TAG_COUNT), random.nextInt(TAG_COUNT)));
+			}
+			index.upsert(new MatchProfile(id, id, null, random.nextBoolean() ? "male" : "female",
+					LocalDate.of(1970 + random.nextInt(35), 1 + random.nextInt(12), 1), tags));
+		}
+
+		query = new MatchQuery(20, similarity, null, 20, 45, LocalDate.of(2025, 6, 1));
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public List<MatchResult> search() {
+		return index.search(QUERY_PROFILE_ID, query);
+	}
+}
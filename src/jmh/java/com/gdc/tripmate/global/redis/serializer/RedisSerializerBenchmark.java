@@ -0,0 +1,83 @@
+package com.gdc.tripmate.global.redis.serializer;
+
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gdc.tripmate.domain.tag.dto.request.ProfileDto;
+import com.gdc.tripmate.global.redis.config.RedisConfig;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * redisObjectTemplate 값 직렬화기 비교 (JSON vs compact) 값 크기는 Setup 단계에서 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisSerializerBenchmark {
+
+	// 소개글 길이 (압축 임계값 미만/이상)
+	@Param({"20", "4000"})
+	private int bioLength;
+
+	private GenericJackson2JsonRedisSerializer jsonSerializer;
+	private CompactRedisSerializer compactSerializer;
+	private ProfileDto profile;
+	private byte[] jsonBytes;
+	private byte[] compactBytes;
+
+	@Setup
+	public void setUp() {
+		jsonSerializer = new GenericJackson2JsonRedisSerializer();
+		jsonSerializer.configure(mapper -> mapper.registerModule(new JavaTimeModule()));
+		compactSerializer = new CompactRedisSerializer(
+				RedisConfig.redisTypeRegistry(), jsonSerializer, 1024);
+
+		profile = ProfileDto.builder()
+				.userId(1L)
+				.email("user@tripmate.com")
+				.nickname("여행자")
+				.bio("바".repeat(bioLength))
+				.gender("FEMALE")
+				.birthDate(LocalDate.of(1998, 3, 14))
+				.profileImageUrl("https://storage.googleapis.com/tripmate/profile/1.png")
+				.phoneNumber("01012345678")
+				.phoneVerified(true)
+				.tags(List.of("휴양", "맛집 탐방", "사진"))
+				.profileCompleted(true)
+				.build();
+
+		jsonBytes = jsonSerializer.serialize(profile);
+		compactBytes = compactSerializer.serialize(profile);
+		System.out.printf("%n값 크기(bioLength=%d): json=%d bytes, compact=%d bytes%n",
+				bioLength, jsonBytes.length, compactBytes.length);
+	}
+
+	@Benchmark
+	public byte[] jsonSerialize() {
+		return jsonSerializer.serialize(profile);
+	}
+
+	@Benchmark
+	public byte[] compactSerialize() {
+		return compactSerializer.serialize(profile);
+	}
+
+	@Benchmark
+	public Object jsonDeserialize() {
+		return jsonSerializer.deserialize(jsonBytes);
+	}
+
+	@Benchmark
+	public Object compactDeserialize() {
+		return compactSerializer.deserialize(compactBytes);
+	}
+}
@@ -0,0 +1,47 @@
+package com.gdc.tripmate.domain.match.controller;
+
+import com.gdc.tripmate.domain.match.dto.MatchCandidateResponse;
+import com.gdc.tripmate.domain.match.dto.MatchRequest;
+import com.gdc.tripmate.domain.match.service.MatchService;
+import com.gdc.tripmate.global.error.ErrorResponse;
+import com.gdc.tripmate.global.util.CurrentUser;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 여행 메이트 매칭 API를 처리하는 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/match")
+@RequiredArgsConstructor
+@Slf4j
+public class MatchController {
+
+	private final MatchService matchService;
+
+	/**
+	 * 태그가 비슷한 여행 메이트 후보 조회 API
+	 */
+	@GetMapping
+	@PreAuthorize("isAuthenticated()")
+	public ResponseEntity<?> findMatches(@CurrentUser Long userId, @ModelAttribute MatchRequest request) {
+		try {
+			List<MatchCandidateResponse> candidates = matchService.findMatches(userId, request);
+			return ResponseEntity.ok(candidates);
+		} catch (IllegalArgumentException e) {
+			ErrorResponse errorResponse = ErrorResponse.builder()
+					.status(HttpStatus.BAD_REQUEST.value())
+					.message(e.getMessage())
+					.build();
+			return ResponseEntity.badRequest().body(errorResponse);
+		}
+	}
+}
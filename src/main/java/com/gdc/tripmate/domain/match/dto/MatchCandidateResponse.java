@@ -0,0 +1,16 @@
+package com.gdc.tripmate.domain.match.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MatchCandidateResponse {
+
+	private Long userId;
+	private String nickname;
+	// 태그 유사도 (0 ~ 1)
+	private double score;
+	private List<String> commonTags;
+}
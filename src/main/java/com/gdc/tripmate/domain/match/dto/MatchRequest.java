@@ -0,0 +1,24 @@
+package com.gdc.tripmate.domain.match.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 매칭 조회 조건 (쿼리 파라미터)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MatchRequest {
+
+	// 결과 수
+	private int limit = 20;
+	// 유사도 방식 (jaccard | weighted)
+	private String similarity = "jaccard";
+	// 성별 필터 (male, female, other)
+	private String gender;
+	// 나이 필터 (만 나이)
+	private Integer minAge;
+	private Integer maxAge;
+}
@@ -0,0 +1,52 @@
+package com.gdc.tripmate.domain.match.index;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없는 가변 길이 int 배열 (태그별 프로필 슬롯 목록)
+ */
+final class IntList {
+
+	private int[] values;
+	private int size;
+
+	IntList() {
+		this(8);
+	}
+
+	IntList(int capacity) {
+		this.values = new int[Math.max(capacity, 1)];
+	}
+
+	void add(int value) {
+		if (size == values.length) {
+			values = Arrays.copyOf(values, size * 2);
+		}
+		values[size++] = value;
+	}
+
+	/**
+	 * 값 하나 제거 (순서는 유지하지 않음)
+	 */
+	boolean removeValue(int value) {
+		for (int i = 0; i < size; i++) {
+			if (values[i] == value) {
+				values[i] = values[--size];
+				return true;
+			}
+		}
+		return false;
+	}
+
+	int removeLast() {
+		return values[--size];
+	}
+
+	int get(int index) {
+		return values[index];
+	}
+
+	int size() {
+		return size;
+	}
+}
@@ -0,0 +1,423 @@
+package com.gdc.tripmate.domain.match.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 기반 매칭 색인 - 프로필마다 태그 비트셋(long[]) 한 줄, 태그마다 프로필 슬롯 목록(역색인)을 메모리에 유지
+ * <p>
+ * 유사도는 비트셋 AND 결과의 {@link Long#bitCount(long)} 로 계산하고, 질의 태그의 역색인이 작으면 해당 후보만,
+ * 크면 전체 슬롯을 순회 (프로필 수가 기준 이상이면 ForkJoin 으로 구간을 나눠 병렬 순회)
+ */
+public class MatchIndex {
+
+	private static final int UNKNOWN_BIRTH = Integer.MIN_VALUE;
+	private static final int INITIAL_CAPACITY = 1024;
+	// 역색인 후보 수가 전체 프로필의 이 비율 이상이면 전체 순회가 더 빠름
+	private static final int FULL_SCAN_DIVISOR = 4;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	// 병렬 순회 (null 이면 항상 단일 스레드)
+	private final ParallelMatchScorer parallelScorer;
+	private final int parallelThreshold;
+
+	// 슬롯별 프로필 정보 (비어 있는 슬롯은 rows[slot] == null)
+	private long[][] rows = new long[INITIAL_CAPACITY][];
+	private long[] profileIds = new long[INITIAL_CAPACITY];
+	private long[] userIds = new long[INITIAL_CAPACITY];
+	private String[] nicknames = new String[INITIAL_CAPACITY];
+	private byte[] genders = new byte[INITIAL_CAPACITY];
+	private int[] birthDays = new int[INITIAL_CAPACITY];
+	private int[] cardinalities = new int[INITIAL_CAPACITY];
+	private int slotCount;
+	private int activeCount;
+	private final IntList freeSlots = new IntList();
+	private final Map<Long, Integer> slotsByProfile = new HashMap<>();
+
+	// 태그 ID ↔ 비트 위치, 비트별 프로필 슬롯 목록
+	private final Map<Long, Integer> bitsByTag = new HashMap<>();
+	private long[] tagIdsByBit = new long[64];
+	private IntList[] postings = new IntList[64];
+	private int bitCount;
+
+	public MatchIndex() {
+		this(null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param pool              전체 순회 병렬 채점에 사용할 풀
+	 * @param parallelThreshold 병렬 채점을 시작하는 프로필 수
+	 */
+	public MatchIndex(ForkJoinPool pool, int parallelThreshold) {
+		this.parallelScorer = pool != null ? new ParallelMatchScorer(pool) : null;
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * 프로필 추가 또는 갱신 (기존 태그의 역색인 항목을 빼고 새 태그로 다시 등록)
+	 */
+	public void upsert(MatchProfile profile) {
+		lock.writeLock().lock();
+		try {
+			Integer existing = slotsByProfile.get(profile.profileId());
+			int slot;
+			if (existing != null) {
+				slot = existing;
+				unlink(slot);
+			} else {
+				slot = allocate();
+				slotsByProfile.put(profile.profileId(), slot);
+				activeCount++;
+			}
+
+			long[] row = toRow(profile);
+			rows[slot] = row;
+			profileIds[slot] = profile.profileId();
+			userIds[slot] = profile.userId();
+			nicknames[slot] = profile.nickname();
+			genders[slot] = genderCode(profile.gender());
+			birthDays[slot] = profile.birthDate() != null
+					? (int) profile.birthDate().toEpochDay() : UNKNOWN_BIRTH;
+			cardinalities[slot] = cardinality(row);
+			for (int word = 0; word < row.length; word++) {
+				long bits = row[word];
+				while (bits != 0) {
+					postings[word * 64 + Long.numberOfTrailingZeros(bits)].add(slot);
+					bits &= bits - 1;
+				}
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 프로필 제거 (슬롯은 이후 추가되는 프로필이 재사용)
+	 */
+	public void remove(long profileId) {
+		lock.writeLock().lock();
+		try {
+			Integer slot = slotsByProfile.remove(profileId);
+			if (slot == null) {
+				return;
+			}
+			unlink(slot);
+			rows[slot] = null;
+			nicknames[slot] = null;
+			freeSlots.add(slot);
+			activeCount--;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public boolean contains(long profileId) {
+		lock.readLock().lock();
+		try {
+			return slotsByProfile.containsKey(profileId);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return activeCount;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 프로필과 태그가 비슷한 상위 K개 프로필 검색 (자기 자신 제외, 공통 태그가 없는 프로필 제외)
+	 */
+	public List<MatchResult> search(long profileId, MatchQuery query) {
+		lock.readLock().lock();
+		try {
+			Integer self = slotsByProfile.get(profileId);
+			if (self == null) {
+				return List.of();
+			}
+
+			Scorer scorer = new Scorer(self, query);
+			TopK topK;
+			if (scorer.candidateCount() * FULL_SCAN_DIVISOR < activeCount) {
+				topK = new TopK(query.limit());
+				scanPostings(scorer, topK);
+			} else if (parallelScorer != null && activeCount >= parallelThreshold) {
+				topK = parallelScorer.score(this, scorer, slotCount, query.limit());
+			} else {
+				topK = new TopK(query.limit());
+				scan(scorer, 0, slotCount, topK);
+			}
+			return results(scorer, topK);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 슬롯 범위 [from, to) 전체 채점
+	 */
+	void scan(Scorer scorer, int from, int to, TopK topK) {
+		for (int slot = from; slot < to; slot++) {
+			float score = scorer.score(slot);
+			if (score > 0f) {
+				topK.offer(slot, score);
+			}
+		}
+	}
+
+	/**
+	 * 질의 태그의 역색인에 있는 슬롯만 채점 (이미 채점한 슬롯은 건너뜀)
+	 */
+	private void scanPostings(Scorer scorer, TopK topK) {
+		long[] visited = new long[(slotCount + 63) >>> 6];
+		long[] query = scorer.query;
+		for (int word = 0; word < query.length; word++) {
+			long bits = query[word];
+			while (bits != 0) {
+				IntList posting = postings[word * 64 + Long.numberOfTrailingZeros(bits)];
+				for (int i = 0; i < posting.size(); i++) {
+					int slot = posting.get(i);
+					long mask = 1L << slot;
+					if ((visited[slot >>> 6] & mask) != 0) {
+						continue;
+					}
+					visited[slot >>> 6] |= mask;
+					float score = scorer.score(slot);
+					if (score > 0f) {
+						topK.offer(slot, score);
+					}
+				}
+				bits &= bits - 1;
+			}
+		}
+	}
+
+	private List<MatchResult> results(Scorer scorer, TopK topK) {
+		int[] slots = new int[topK.size()];
+		float[] scores = new float[topK.size()];
+		int count = topK.drain(slots, scores);
+
+		List<MatchResult> results = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int slot = slots[i];
+			long[] row = rows[slot];
+			List<Long> common = new ArrayList<>();
+			for (int word = 0; word < Math.min(row.length, scorer.query.length); word++) {
+				long bits = row[word] & scorer.query[word];
+				while (bits != 0) {
+					common.add(tagIdsByBit[word * 64 + Long.numberOfTrailingZeros(bits)]);
+					bits &= bits - 1;
+				}
+			}
+			results.add(new MatchResult(profileIds[slot], userIds[slot], nicknames[slot], scores[i], common));
+		}
+		return results;
+	}
+
+	private void unlink(int slot) {
+		long[] row = rows[slot];
+		for (int word = 0; word < row.length; word++) {
+			long bits = row[word];
+			while (bits != 0) {
+				postings[word * 64 + Long.numberOfTrailingZeros(bits)].removeValue(slot);
+				bits &= bits - 1;
+			}
+		}
+	}
+
+	private int allocate() {
+		if (freeSlots.size() > 0) {
+			return freeSlots.removeLast();
+		}
+		if (slotCount == rows.length) {
+			int capacity = rows.length * 2;
+			rows = Arrays.copyOf(rows, capacity);
+			profileIds = Arrays.copyOf(profileIds, capacity);
+			userIds = Arrays.copyOf(userIds, capacity);
+			nicknames = Arrays.copyOf(nicknames, capacity);
+			genders = Arrays.copyOf(genders, capacity);
+			birthDays = Arrays.copyOf(birthDays, capacity);
+			cardinalities = Arrays.copyOf(cardinalities, capacity);
+		}
+		return slotCount++;
+	}
+
+	/**
+	 * 태그 ID 목록을 비트셋으로 변환 (처음 보는 태그는 새 비트 배정)
+	 */
+	private long[] toRow(MatchProfile profile) {
+		int[] bits = new int[profile.tagIds().size()];
+		int count = 0;
+		int maxBit = -1;
+		for (Long tagId : profile.tagIds()) {
+			int bit = bitsByTag.computeIfAbsent(tagId, this::assignBit);
+			bits[count++] = bit;
+			maxBit = Math.max(maxBit, bit);
+		}
+
+		if (maxBit < 0) {
+			return new long[0];
+		}
+		long[] row = new long[(maxBit >>> 6) + 1];
+		for (int i = 0; i < count; i++) {
+			row[bits[i] >>> 6] |= 1L << bits[i];
+		}
+		return row;
+	}
+
+	private int assignBit(Long tagId) {
+		if (bitCount == tagIdsByBit.length) {
+			tagIdsByBit = Arrays.copyOf(tagIdsByBit, bitCount * 2);
+			postings = Arrays.copyOf(postings, bitCount * 2);
+		}
+		tagIdsByBit[bitCount] = tagId;
+		postings[bitCount] = new IntList();
+		return bitCount++;
+	}
+
+	private static int cardinality(long[] row) {
+		int cardinality = 0;
+		for (long word : row) {
+			cardinality += Long.bitCount(word);
+		}
+		return cardinality;
+	}
+
+	static byte genderCode(String gender) {
+		if (gender == null) {
+			return 0;
+		}
+		return switch (gender.trim().toLowerCase(Locale.ROOT)) {
+			case "male" -> 1;
+			case "female" -> 2;
+			case "other" -> 3;
+			default -> 0;
+		};
+	}
+
+	/**
+	 * 질의 1건의 채점기 - 질의 비트셋, 필터, 가중치를 미리 계산해 두고 후보마다 객체 생성 없이 점수 계산
+	 */
+	final class Scorer {
+
+		private final int self;
+		private final long[] query;
+		private final int queryCardinality;
+		private final byte gender;
+		private final boolean ageFilter;
+		private final int minBirthDay;
+		private final int maxBirthDay;
+		// WEIGHTED 방식의 비트별 가중치 (JACCARD 는 null)
+		private final float[] weights;
+		private final float queryWeight;
+
+		Scorer(int self, MatchQuery query) {
+			this.self = self;
+			this.query = rows[self];
+			this.queryCardinality = cardinalities[self];
+			this.gender = genderCode(query.gender());
+
+			LocalDate today = query.today();
+			this.ageFilter = query.minAge() != null || query.maxAge() != null;
+			// 나이 N세 이상 = 생일이 오늘 기준 N년 전 이전, N세 이하 = 생일이 N+1년 전 이후
+			this.maxBirthDay = query.minAge() != null
+					? (int) today.minusYears(query.minAge()).toEpochDay() : Integer.MAX_VALUE;
+			this.minBirthDay = query.maxAge() != null
+					? (int) today.minusYears(query.maxAge() + 1L).toEpochDay() + 1 : UNKNOWN_BIRTH + 1;
+
+			if (query.similarity() == Similarity.WEIGHTED) {
+				this.weights = new float[bitCount];
+				for (int bit = 0; bit < bitCount; bit++) {
+					weights[bit] = (float) Math.log(1.0 + (double) activeCount / Math.max(1, postings[bit].size()));
+				}
+				this.queryWeight = weightOf(this.query);
+			} else {
+				this.weights = null;
+				this.queryWeight = 0f;
+			}
+		}
+
+		/**
+		 * 질의 태그의 역색인 항목 수 합계 (후보 수 상한)
+		 */
+		long candidateCount() {
+			long count = 0;
+			for (int word = 0; word < query.length; word++) {
+				long bits = query[word];
+				while (bits != 0) {
+					count += postings[word * 64 + Long.numberOfTrailingZeros(bits)].size();
+					bits &= bits - 1;
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * 슬롯 점수 (필터에 걸리거나 공통 태그가 없으면 0)
+		 */
+		float score(int slot) {
+			long[] row = rows[slot];
+			if (row == null || slot == self) {
+				return 0f;
+			}
+			if (gender != 0 && genders[slot] != gender) {
+				return 0f;
+			}
+			if (ageFilter) {
+				int birthDay = birthDays[slot];
+				if (birthDay == UNKNOWN_BIRTH || birthDay < minBirthDay || birthDay > maxBirthDay) {
+					return 0f;
+				}
+			}
+
+			int words = Math.min(row.length, query.length);
+			if (weights == null) {
+				int intersection = 0;
+				for (int word = 0; word < words; word++) {
+					intersection += Long.bitCount(row[word] & query[word]);
+				}
+				if (intersection == 0) {
+					return 0f;
+				}
+				return (float) intersection / (queryCardinality + cardinalities[slot] - intersection);
+			}
+
+			float intersection = 0f;
+			for (int word = 0; word < words; word++) {
+				long bits = row[word] & query[word];
+				while (bits != 0) {
+					intersection += weights[word * 64 + Long.numberOfTrailingZeros(bits)];
+					bits &= bits - 1;
+				}
+			}
+			if (intersection == 0f) {
+				return 0f;
+			}
+			return intersection / (queryWeight + weightOf(row) - intersection);
+		}
+
+		private float weightOf(long[] row) {
+			float weight = 0f;
+			for (int word = 0; word < row.length; word++) {
+				long bits = row[word];
+				while (bits != 0) {
+					weight += weights[word * 64 + Long.numberOfTrailingZeros(bits)];
+					bits &= bits - 1;
+				}
+			}
+			return weight;
+		}
+	}
+}
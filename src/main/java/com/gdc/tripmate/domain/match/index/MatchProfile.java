@@ -0,0 +1,12 @@
+package com.gdc.tripmate.domain.match.index;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * 매칭 색인에 넣을 프로필 정보
+ */
+public record MatchProfile(long profileId, long userId, String nickname, String gender,
+		LocalDate birthDate, Collection<Long> tagIds) {
+
+}
@@ -0,0 +1,11 @@
+package com.gdc.tripmate.domain.match.index;
+
+import java.time.LocalDate;
+
+/**
+ * 매칭 조건 - 결과 수, 유사도 방식, 성별/나이 필터 (null 이면 필터 없음)
+ */
+public record MatchQuery(int limit, Similarity similarity, String gender, Integer minAge,
+		Integer maxAge, LocalDate today) {
+
+}
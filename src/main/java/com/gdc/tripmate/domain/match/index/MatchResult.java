@@ -0,0 +1,11 @@
+package com.gdc.tripmate.domain.match.index;
+
+import java.util.List;
+
+/**
+ * 매칭 후보 - 점수와 공통 태그 ID
+ */
+public record MatchResult(long profileId, long userId, String nickname, double score,
+		List<Long> commonTagIds) {
+
+}
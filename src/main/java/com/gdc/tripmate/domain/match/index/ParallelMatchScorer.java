@@ -0,0 +1,67 @@
+package com.gdc.tripmate.domain.match.index;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 전체 순회 채점 병렬화 - 슬롯 범위를 구간으로 나눠 ForkJoin 작업자가 구간별 TopK 를 채우고, 합칠 때 상위 K개만 남김
+ * <p>
+ * 후보 채점은 {@link MatchIndex.Scorer#score(int)} 를 그대로 사용하므로 후보마다 객체를 만들지 않음
+ */
+final class ParallelMatchScorer {
+
+	// 구간이 너무 작으면 분할 비용이 채점 비용보다 커짐
+	private static final int MIN_CHUNK_SIZE = 16_384;
+	// 작업자 수 대비 구간 수 (작업 훔치기로 구간별 편차 흡수)
+	private static final int CHUNKS_PER_WORKER = 4;
+
+	private final ForkJoinPool pool;
+
+	ParallelMatchScorer(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * 슬롯 [0, slotCount) 를 병렬 채점해 상위 K개 반환 (호출 측이 색인 읽기 잠금을 잡고 있어야 함)
+	 */
+	TopK score(MatchIndex index, MatchIndex.Scorer scorer, int slotCount, int limit) {
+		int chunkSize = Math.max(MIN_CHUNK_SIZE, slotCount / (pool.getParallelism() * CHUNKS_PER_WORKER));
+		return pool.invoke(new ChunkTask(index, scorer, 0, slotCount, limit, chunkSize));
+	}
+
+	private static final class ChunkTask extends RecursiveTask<TopK> {
+
+		private final MatchIndex index;
+		private final MatchIndex.Scorer scorer;
+		private final int from;
+		private final int to;
+		private final int limit;
+		private final int chunkSize;
+
+		ChunkTask(MatchIndex index, MatchIndex.Scorer scorer, int from, int to, int limit, int chunkSize) {
+			this.index = index;
+			this.scorer = scorer;
+			this.from = from;
+			this.to = to;
+			this.limit = limit;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		protected TopK compute() {
+			if (to - from <= chunkSize) {
+				TopK topK = new TopK(limit);
+				index.scan(scorer, from, to, topK);
+				return topK;
+			}
+
+			int mid = (from + to) >>> 1;
+			ChunkTask left = new ChunkTask(index, scorer, from, mid, limit, chunkSize);
+			left.fork();
+			TopK right = new ChunkTask(index, scorer, mid, to, limit, chunkSize).compute();
+			TopK merged = left.join();
+			merged.merge(right);
+			return merged;
+		}
+	}
+}
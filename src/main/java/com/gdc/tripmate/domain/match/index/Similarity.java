@@ -0,0 +1,11 @@
+package com.gdc.tripmate.domain.match.index;
+
+/**
+ * 태그 집합 유사도 계산 방식
+ */
+public enum Similarity {
+	// 공통 태그 수 / 합집합 태그 수
+	JACCARD,
+	// 태그별 희소도(IDF) 가중치를 반영한 자카드 - 흔한 태그보다 드문 태그가 겹칠수록 높은 점수
+	WEIGHTED
+}
@@ -0,0 +1,114 @@
+package com.gdc.tripmate.domain.match.index;
+
+/**
+ * 점수 상위 K개를 보관하는 최소 힙 (후보마다 객체를 만들지 않도록 기본형 배열 사용)
+ */
+public final class TopK {
+
+	private final int capacity;
+	private final float[] scores;
+	private final int[] slots;
+	private int size;
+
+	public TopK(int capacity) {
+		this.capacity = capacity;
+		this.scores = new float[capacity];
+		this.slots = new int[capacity];
+	}
+
+	/**
+	 * 후보 추가 - 힙이 가득 차 있으면 최저 점수보다 높을 때만 교체
+	 */
+	public void offer(int slot, float score) {
+		if (size < capacity) {
+			scores[size] = score;
+			slots[size] = slot;
+			siftUp(size++);
+			return;
+		}
+		if (capacity == 0 || !isBetter(score, slot, scores[0], slots[0])) {
+			return;
+		}
+		scores[0] = score;
+		slots[0] = slot;
+		siftDown(0);
+	}
+
+	/**
+	 * 다른 힙의 후보를 모두 합침 (병렬 채점 결과 병합용)
+	 */
+	public void merge(TopK other) {
+		for (int i = 0; i < other.size; i++) {
+			offer(other.slots[i], other.scores[i]);
+		}
+	}
+
+	/**
+	 * 현재 보관 중인 최저 점수 (가득 차지 않았으면 음수)
+	 */
+	public float threshold() {
+		return size < capacity ? -1f : scores[0];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 점수 내림차순으로 꺼내 배열에 채우고 개수 반환 (힙 내용을 비움)
+	 */
+	public int drain(int[] outSlots, float[] outScores) {
+		int count = size;
+		for (int i = count - 1; i >= 0; i--) {
+			outSlots[i] = slots[0];
+			outScores[i] = scores[0];
+			size--;
+			scores[0] = scores[size];
+			slots[0] = slots[size];
+			siftDown(0);
+		}
+		return count;
+	}
+
+	private void siftUp(int index) {
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (!isBetter(scores[parent], slots[parent], scores[index], slots[index])) {
+				break;
+			}
+			swap(index, parent);
+			index = parent;
+		}
+	}
+
+	private void siftDown(int index) {
+		while (true) {
+			int left = index * 2 + 1;
+			if (left >= size) {
+				return;
+			}
+			int right = left + 1;
+			int smallest = right < size && isBetter(scores[left], slots[left], scores[right], slots[right])
+					? right : left;
+			if (!isBetter(scores[index], slots[index], scores[smallest], slots[smallest])) {
+				return;
+			}
+			swap(index, smallest);
+			index = smallest;
+		}
+	}
+
+	// 점수가 높을수록, 같으면 슬롯 번호가 작을수록 우선 (결과 순서를 결정적으로 유지)
+	private static boolean isBetter(float score, int slot, float otherScore, int otherSlot) {
+		return score > otherScore || (score == otherScore && slot < otherSlot);
+	}
+
+	private void swap(int i, int j) {
+		float score = scores[i];
+		scores[i] = scores[j];
+		scores[j] = score;
+		int slot = slots[i];
+		slots[i] = slots[j];
+		slots[j] = slot;
+	}
+}
@@ -0,0 +1,244 @@
+package com.gdc.tripmate.domain.match.service;
+
+import com.gdc.tripmate.domain.match.index.MatchIndex;
+import com.gdc.tripmate.domain.match.index.MatchProfile;
+import com.gdc.tripmate.domain.tag.repository.UserProfileRepository;
+import com.gdc.tripmate.domain.tag.repository.UserProfileTagRepository;
+import com.gdc.tripmate.domain.user.status.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 매칭 색인 관리 - 시작 시 user_profile_tags 로 전체 생성, 프로필 저장 시 해당 프로필만 갱신
+ * <p>
+ * 프로필 변경은 Redis Pub/Sub 으로 모든 서버에 알리고, 각 서버는 DB에서 그 프로필만 다시 읽어 색인에 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchIndexManager implements MessageListener {
+
+	static final String EVENT_CHANNEL = "MATCH_PROFILE_EVENTS";
+	// 전체 재생성 요청 메시지 (태그 병합처럼 여러 프로필이 한 번에 바뀐 경우)
+	private static final String REBUILD_MESSAGE = "REBUILD";
+	// 매칭에서 제외하는 사용자 상태
+	private static final List<Status> EXCLUDED_STATUSES = List.of(Status.SUSPENDED, Status.DELETED);
+
+	private final UserProfileRepository userProfileRepository;
+	private final UserProfileTagRepository userProfileTagRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final MeterRegistry meterRegistry;
+
+	// 병렬 채점 작업자 수 (0: CPU 코어 수)
+	@Value("${app.match.parallelism:0}")
+	private int parallelism;
+
+	@Value("${app.match.parallel-threshold:50000}")
+	private int parallelThreshold;
+
+	private final AtomicReference<MatchIndex> current = new AtomicReference<>();
+	// 전체 생성 중 갱신된 프로필 ID (생성 중에는 이전 색인에 반영되므로 교체 후 새 색인에 다시 반영)
+	private final AtomicReference<Set<Long>> refreshedDuringRebuild = new AtomicReference<>();
+	// 전체 생성은 한 번에 하나씩 (시작 시 생성, 주기적 생성, 태그 병합 후 생성이 겹칠 수 있음)
+	private final ReentrantLock rebuildLock = new ReentrantLock();
+	// 아직 시작하지 않은 전체 생성 요청이 있는지 (그 사이 들어온 요청은 하나로 합침)
+	private final AtomicBoolean rebuildPending = new AtomicBoolean();
+	private ForkJoinPool scoringPool;
+	// 전체 생성 전용 스레드 (Redis 리스너와 스케줄러 스레드를 막지 않도록)
+	private ExecutorService rebuildExecutor;
+
+	@PostConstruct
+	public void init() {
+		scoringPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+		rebuildExecutor = Executors.newSingleThreadExecutor(
+				Thread.ofPlatform().name("match-index-rebuild").daemon().factory());
+		current.set(newIndex());
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVENT_CHANNEL));
+		meterRegistry.gauge("match.index.profiles", current, ref -> ref.get().size());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		rebuildExecutor.shutdownNow();
+		scoringPool.shutdown();
+	}
+
+	public MatchIndex index() {
+		return current.get();
+	}
+
+	/**
+	 * 전체 생성 예약 후 바로 반환 - 시작 시, 알림 유실 대비 주기적으로, 그리고 재생성 요청 수신 시 실행
+	 * <p>
+	 * 대기 중인 요청이 있으면 합치고, 생성 중에 들어온 요청은 끝난 뒤 한 번 더 실행 (생성 중 DB 조회 이후 변경 반영)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${app.match.rebuild-interval-millis:3600000}",
+			initialDelayString = "${app.match.rebuild-interval-millis:3600000}")
+	public void scheduleRebuild() {
+		if (!rebuildPending.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			rebuildExecutor.execute(() -> {
+				rebuildPending.set(false);
+				try {
+					rebuild();
+				} catch (Exception e) {
+					// 실패해도 이전 색인은 그대로 사용하고 다음 요청/주기에 다시 생성
+					log.error("매칭 색인 생성 실패: {}", e.getMessage(), e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// 종료 중
+			rebuildPending.set(false);
+		}
+	}
+
+	/**
+	 * 전체 색인 생성 후 교체 (호출한 스레드에서 실행)
+	 */
+	void rebuild() {
+		rebuildLock.lock();
+		try {
+			long started = System.nanoTime();
+			refreshedDuringRebuild.set(ConcurrentHashMap.newKeySet());
+
+			Map<Long, List<Long>> tagsByProfile = new HashMap<>();
+			for (Object[] row : userProfileTagRepository.findAllProfileTagIds()) {
+				tagsByProfile.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+			}
+
+			MatchIndex index = newIndex();
+			for (Object[] row : userProfileRepository.findMatchAttributes(EXCLUDED_STATUSES)) {
+				index.upsert(toProfile(row, tagsByProfile.getOrDefault((Long) row[0], List.of())));
+			}
+			current.set(index);
+
+			// DB 조회 이후 도착한 변경 알림을 새 색인에 다시 반영
+			Set<Long> refreshed = refreshedDuringRebuild.getAndSet(null);
+			refreshed.forEach(this::refresh);
+
+			log.info("매칭 색인 생성: 프로필 {} 개, 생성 중 변경 {} 개, {} ms", index.size(), refreshed.size(),
+					(System.nanoTime() - started) / 1_000_000);
+		} finally {
+			refreshedDuringRebuild.set(null);
+			rebuildLock.unlock();
+		}
+	}
+
+	/**
+	 * 프로필 저장 후 호출 - 커밋 이후 모든 서버에 변경 알림
+	 */
+	public void publishAfterCommit(Long profileId) {
+		if (profileId == null) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			publish(profileId);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				publish(profileId);
+			}
+		});
+	}
+
+	/**
+	 * 모든 서버에 전체 재생성 요청 (커밋 이후 호출)
+	 */
+	public void requestRebuild() {
+		try {
+			redisTemplate.convertAndSend(EVENT_CHANNEL, REBUILD_MESSAGE);
+		} catch (Exception e) {
+			// Redis 장애 시 이 서버만 반영, 다른 서버는 주기적 재생성에서 반영
+			log.warn("매칭 색인 재생성 요청 실패: {}", e.getMessage());
+			scheduleRebuild();
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		if (REBUILD_MESSAGE.equals(body)) {
+			scheduleRebuild();
+			return;
+		}
+		refresh(Long.valueOf(body));
+	}
+
+	/**
+	 * 프로필 한 건을 DB에서 다시 읽어 색인 갱신 (매칭 대상이 아니게 된 프로필은 제거)
+	 */
+	public void refresh(Long profileId) {
+		// 색인을 읽기 전에 기록 (교체 직전 이전 색인에 반영된 변경도 다시 반영되도록)
+		Set<Long> refreshed = refreshedDuringRebuild.get();
+		if (refreshed != null) {
+			refreshed.add(profileId);
+		}
+
+		MatchIndex index = current.get();
+		List<Object[]> rows = userProfileRepository.findMatchAttributesById(profileId, EXCLUDED_STATUSES);
+		if (rows.isEmpty()) {
+			index.remove(profileId);
+			return;
+		}
+		index.upsert(toProfile(rows.get(0), userProfileTagRepository.findTagIdsByProfileId(profileId)));
+	}
+
+	/**
+	 * 모든 서버에 프로필 변경 알림 (이미 커밋 이후 콜백 안이면 바로 호출)
+	 */
+	public void publish(Long profileId) {
+		try {
+			redisTemplate.convertAndSend(EVENT_CHANNEL, profileId.toString());
+		} catch (Exception e) {
+			// Redis 장애 시 이 서버만 반영, 다른 서버는 주기적 재생성에서 반영
+			log.warn("매칭 색인 변경 알림 실패: profileId={}, {}", profileId, e.getMessage());
+			refresh(profileId);
+		}
+	}
+
+	private MatchIndex newIndex() {
+		return new MatchIndex(scoringPool, parallelThreshold);
+	}
+
+	private MatchProfile toProfile(Object[] row, List<Long> tagIds) {
+		return new MatchProfile((Long) row[0], (Long) row[1], (String) row[2], (String) row[3],
+				(LocalDate) row[4], tagIds);
+	}
+}
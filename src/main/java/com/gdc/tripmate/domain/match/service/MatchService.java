@@ -0,0 +1,20 @@
+package com.gdc.tripmate.domain.match.service;
+
+import com.gdc.tripmate.domain.match.dto.MatchCandidateResponse;
+import com.gdc.tripmate.domain.match.dto.MatchRequest;
+import java.util.List;
+
+/**
+ * 여행 메이트 매칭 비즈니스 로직을 정의하는 인터페이스
+ */
+public interface MatchService {
+
+	/**
+	 * 태그가 비슷한 여행 메이트 후보 조회
+	 *
+	 * @param userId  요청 사용자 ID
+	 * @param request 결과 수, 유사도 방식, 성별/나이 필터
+	 * @return 유사도 순 후보 목록
+	 */
+	List<MatchCandidateResponse> findMatches(Long userId, MatchRequest request);
+}
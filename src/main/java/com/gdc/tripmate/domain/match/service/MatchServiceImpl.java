@@ -0,0 +1,109 @@
+package com.gdc.tripmate.domain.match.service;
+
+import com.gdc.tripmate.domain.match.dto.MatchCandidateResponse;
+import com.gdc.tripmate.domain.match.dto.MatchRequest;
+import com.gdc.tripmate.domain.match.index.MatchQuery;
+import com.gdc.tripmate.domain.match.index.MatchResult;
+import com.gdc.tripmate.domain.match.index.Similarity;
+import com.gdc.tripmate.domain.tag.entity.UserProfile;
+import com.gdc.tripmate.domain.tag.repository.UserProfileRepository;
+import com.gdc.tripmate.domain.tag.service.TagDictionary;
+import com.gdc.tripmate.global.error.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 여행 메이트 매칭 서비스 구현체 - 메모리 매칭 색인으로 후보를 계산하고 태그 이름은 태그 사전에서 조회 (DB 조회는 프로필 ID 확인 한 번)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MatchServiceImpl implements MatchService {
+
+	private final MatchIndexManager matchIndexManager;
+	private final UserProfileRepository userProfileRepository;
+	private final TagDictionary tagDictionary;
+	private final MeterRegistry meterRegistry;
+
+	// 나이 필터 허용 범위 (만 나이)
+	private static final int MAX_AGE = 150;
+
+	@Value("${app.match.max-limit:100}")
+	private int maxLimit;
+
+	@Override
+	public List<MatchCandidateResponse> findMatches(Long userId, MatchRequest request) {
+		Long profileId = userProfileRepository.findByUserId(userId)
+				.map(UserProfile::getId)
+				.orElseThrow(() -> new ResourceNotFoundException("프로필을 찾을 수 없습니다. 사용자 ID: " + userId));
+		if (!matchIndexManager.index().contains(profileId)) {
+			throw new ResourceNotFoundException("매칭에 사용할 프로필 정보가 없습니다. 프로필 설정을 완료해 주세요.");
+		}
+
+		validateAgeRange(request.getMinAge(), request.getMaxAge());
+		MatchQuery query = new MatchQuery(
+				Math.max(1, Math.min(request.getLimit(), maxLimit)),
+				similarityOf(request.getSimilarity()),
+				genderOf(request.getGender()),
+				request.getMinAge(),
+				request.getMaxAge(),
+				LocalDate.now());
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+		List<MatchResult> results = matchIndexManager.index().search(profileId, query);
+		sample.stop(meterRegistry.timer("match.search.latency", "similarity",
+				query.similarity().name().toLowerCase(Locale.ROOT)));
+
+		TagDictionary.Snapshot tags = tagDictionary.snapshot();
+		return results.stream()
+				.map(result -> new MatchCandidateResponse(
+						result.userId(),
+						result.nickname(),
+						Math.round(result.score() * 1000) / 1000.0,
+						result.commonTagIds().stream()
+								.map(tagId -> tags.findById(tagId).map(TagDictionary.Entry::name).orElse(null))
+								.filter(Objects::nonNull)
+								.toList()))
+				.toList();
+	}
+
+	private Similarity similarityOf(String similarity) {
+		if (similarity == null || similarity.isBlank()) {
+			return Similarity.JACCARD;
+		}
+		try {
+			return Similarity.valueOf(similarity.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("지원하지 않는 유사도 방식입니다: " + similarity);
+		}
+	}
+
+	/**
+	 * 성별 필터 정규화 알 수 없는 값을 조건 없음으로 취급하지 않고 거절
+	 */
+	private String genderOf(String gender) {
+		try {
+			return UserProfile.normalizeGender(gender);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("지원하지 않는 성별 필터입니다: " + gender);
+		}
+	}
+
+	private void validateAgeRange(Integer minAge, Integer maxAge) {
+		if (minAge != null && (minAge < 0 || minAge > MAX_AGE)
+				|| maxAge != null && (maxAge < 0 || maxAge > MAX_AGE)) {
+			throw new IllegalArgumentException("나이 필터는 0에서 " + MAX_AGE + " 사이로 입력해 주세요.");
+		}
+		if (minAge != null && maxAge != null && minAge > maxAge) {
+			throw new IllegalArgumentException("최소 나이가 최대 나이보다 클 수 없습니다.");
+		}
+	}
+}
@@ -3,6 +3,7 @@ package com.gdc.tripmate.domain.phone.service;
 import com.gdc.tripmate.domain.phone.dto.response.SmsVerificationResponse;
 import com.gdc.tripmate.domain.user.entity.User;
 import com.gdc.tripmate.domain.user.repository.UserRepository;
+import com.gdc.tripmate.domain.user.service.SessionService;
 import com.gdc.tripmate.domain.user.status.Status;
 import com.gdc.tripmate.global.security.dto.TokenResponse;
 import com.gdc.tripmate.global.security.jwt.JwtTokenProvider;
@@ -11,6 +12,8 @@ import java.security.SecureRandom;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +27,8 @@ public class SmsVerificationService {
 	private final UserRepository userRepository;
 	private final JwtTokenProvider jwtTokenProvider;
 	private final SecurityUtils securityUtils;
+	private final SessionService sessionService;
+	private final CacheManager cacheManager;
 	private final SecureRandom random = new SecureRandom();
 
 	// 인증 코드 유효 시간 (분)
@@ -158,19 +163,15 @@ public class SmsVerificationService {
 				user.setPhoneNumber(formattedPhone);
 				user.setStatus(Status.ACTIVE);
 				userRepository.save(user);
+				evictProfileCache(user.getId());
 
 				// JWT 토큰 발급
-				String accessToken = jwtTokenProvider.createAccessToken(user.getEmail(),
-						user.getRoles());
+				String accessToken = jwtTokenProvider.createAccessToken(user.getId(),
+						user.getEmail(), user.getRoles());
 				String refreshToken = jwtTokenProvider.createRefreshToken();
 
-				// refreshToken을 Redis에 저장
-				redisTemplate.opsForValue().set(
-						"RT:" + user.getEmail(),
-						refreshToken,
-						jwtTokenProvider.getRefreshTokenValidityInMilliseconds(),
-						TimeUnit.MILLISECONDS
-				);
+				// refreshToken을 세션으로 저장 (앱 방식과 동일하게 리프레시 토큰을 세션 ID로 사용)
+				sessionService.saveSession(refreshToken, refreshToken, user.getEmail());
 
 				return TokenResponse.builder()
 						.accessToken(accessToken)
@@ -218,11 +219,22 @@ public class SmsVerificationService {
 		user.setPhoneNumber(formattedPhone);
 		user.setStatus(Status.ACTIVE);
 		userRepository.save(user);
+		evictProfileCache(userId);
 
 		log.info("전화번호 인증 상태 업데이트 완료: userId={}, phoneNumber={}", userId, formattedPhone);
 		return true;
 	}
 
+	/**
+	 * 전화번호가 포함된 프로필 캐시 제거 (트랜잭션 안에서는 커밋 이후에 제거됨)
+	 */
+	private void evictProfileCache(Long userId) {
+		Cache profileCache = cacheManager.getCache("profiles");
+		if (profileCache != null) {
+			profileCache.evict(userId);
+		}
+	}
+
 	/**
 	 * 전화번호 형식 포맷팅 (프론트엔드와 동일한 로직)
 	 */
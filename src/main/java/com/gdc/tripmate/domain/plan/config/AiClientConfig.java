@@ -0,0 +1,73 @@
+package com.gdc.tripmate.domain.plan.config;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * AI 일정 생성 서버(Flask) 호출용 논블로킹 클라이언트 설정
+ */
+@Configuration
+public class AiClientConfig {
+
+	@Value("${app.ai.base-url:http://220.69.209.244:5001}")
+	private String baseUrl;
+
+	// 동시에 열어둘 최대 연결 수 (= 동시 생성 요청 수 상한)
+	@Value("${app.ai.max-connections:50}")
+	private int maxConnections;
+
+	// 연결을 기다리는 요청의 최대 개수, 초과 시 즉시 실패
+	@Value("${app.ai.pending-acquire-max-count:100}")
+	private int pendingAcquireMaxCount;
+
+	@Value("${app.ai.pending-acquire-timeout-millis:5000}")
+	private long pendingAcquireTimeoutMillis;
+
+	@Value("${app.ai.max-idle-seconds:30}")
+	private long maxIdleSeconds;
+
+	@Value("${app.ai.connect-timeout-millis:3000}")
+	private int connectTimeoutMillis;
+
+	// 일정 생성은 수 초~수십 초 걸리므로 응답 대기 시간은 넉넉하게 설정
+	@Value("${app.ai.response-timeout-seconds:60}")
+	private long responseTimeoutSeconds;
+
+	@Bean(destroyMethod = "dispose")
+	public ConnectionProvider aiConnectionProvider() {
+		return ConnectionProvider.builder("ai-client")
+				.maxConnections(maxConnections)
+				.pendingAcquireMaxCount(pendingAcquireMaxCount)
+				.pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+				.maxIdleTime(Duration.ofSeconds(maxIdleSeconds))
+				.evictInBackground(Duration.ofSeconds(maxIdleSeconds))
+				.metrics(true)
+				.build();
+	}
+
+	@Bean
+	public WebClient aiWebClient(WebClient.Builder webClientBuilder,
+			ConnectionProvider aiConnectionProvider) {
+		HttpClient httpClient = HttpClient.create(aiConnectionProvider)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+				.responseTimeout(Duration.ofSeconds(responseTimeoutSeconds))
+				.doOnConnected(connection -> connection
+						.addHandlerLast(new ReadTimeoutHandler(responseTimeoutSeconds, TimeUnit.SECONDS))
+						.addHandlerLast(new WriteTimeoutHandler(connectTimeoutMillis, TimeUnit.MILLISECONDS)));
+
+		return webClientBuilder
+				.baseUrl(baseUrl)
+				.clientConnector(new ReactorClientHttpConnector(httpClient))
+				.build();
+	}
+}
@@ -2,22 +2,102 @@ package com.gdc.tripmate.domain.plan.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.gdc.tripmate.domain.plan.dto.PlanInfoRequest;
+import com.gdc.tripmate.domain.plan.dto.PlanJobResponse;
 import com.gdc.tripmate.domain.plan.service.PlanInfoService;
+import com.gdc.tripmate.domain.plan.service.PlanJobService;
+import com.gdc.tripmate.global.util.CurrentUser;
+import java.io.IOException;
+import java.net.URI;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/plan")
 @RequiredArgsConstructor
+@Slf4j
 public class PlanInfoContoller {
 
 	private final PlanInfoService planInfoService;
+	private final PlanJobService planJobService;
 
+	/**
+	 * AI 일정 생성 요청 응답이 올 때까지 비동기로 대기 (서블릿 스레드 즉시 반환)
+	 */
 	@PostMapping
-	public JsonNode sendPlanToAI(@RequestBody PlanInfoRequest request) {
+	public Mono<JsonNode> sendPlanToAI(@RequestBody PlanInfoRequest request) {
 		return planInfoService.handlePlanInfo(request);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 비동기 일정 생성 작업 등록 (async=true) 작업 ID를 바로 돌려주고 결과는 조회/SSE로 확인
+	 */
+	@PostMapping(params = "async=true")
+	public ResponseEntity<PlanJobResponse> submitPlanJob(@CurrentUser Long userId,
+			@RequestBody PlanInfoRequest request) {
+		PlanJobResponse response = planJobService.submit(userId, request);
+		return ResponseEntity.accepted()
+				.location(URI.create("/api/plan/" + response.getJobId()))
+				.body(response);
+	}
+
+	/**
+	 * 비동기 일정 생성 작업 상태/결과 조회
+	 */
+	@GetMapping("/{jobId}")
+	public ResponseEntity<PlanJobResponse> getPlanJob(@CurrentUser Long userId,
+			@PathVariable String jobId) {
+		return ResponseEntity.ok(planJobService.getJob(userId, jobId));
+	}
+
+	/**
+	 * 비동기 일정 생성 작업 완료 구독 (완료 시 result 이벤트 한 번 전송 후 종료)
+	 */
+	@GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter subscribePlanJob(@CurrentUser Long userId, @PathVariable String jobId) {
+		return planJobService.subscribe(userId, jobId);
+	}
+
+	/**
+	 * AI 일정 생성 스트리밍 응답 AI 서버가 보내는 바이트를 청크 단위로 그대로 전달
+	 */
+	@PostMapping("/stream")
+	public ResponseEntity<ResponseBodyEmitter> streamPlanToAI(@RequestBody PlanInfoRequest request) {
+		ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+
+		Disposable subscription = planInfoService.streamPlanInfo(request)
+				.subscribe(
+						chunk -> send(emitter, chunk),
+						emitter::completeWithError,
+						emitter::complete);
+
+		// 클라이언트 연결 종료나 타임아웃 시 AI 서버 요청도 취소
+		emitter.onTimeout(subscription::dispose);
+		emitter.onError(e -> subscription.dispose());
+		emitter.onCompletion(subscription::dispose);
+
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(emitter);
+	}
+
+	private void send(ResponseBodyEmitter emitter, byte[] chunk) {
+		try {
+			emitter.send(chunk, MediaType.APPLICATION_JSON);
+		} catch (IOException e) {
+			log.debug("스트리밍 클라이언트 연결 종료: {}", e.getMessage());
+			emitter.completeWithError(e);
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.gdc.tripmate.domain.plan.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일정 결과 캐시에서 조회한 AI 생성 결과
+ */
+@Getter
+@AllArgsConstructor
+public class CachedPlan {
+
+	private JsonNode plan;
+	private long createdAt;
+	// 신선 기간이 지나 재생성이 필요한 결과인지 여부
+	private boolean stale;
+}
@@ -0,0 +1,32 @@
+package com.gdc.tripmate.domain.plan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 작업 저장소에 저장된 비동기 일정 생성 작업
+ */
+@Getter
+@AllArgsConstructor
+public class PlanJob {
+
+	private String jobId;
+	private PlanJobStatus status;
+	private Long ownerId;
+	private String city;
+	private String startDate;
+	private String endDate;
+	// AI 생성 결과 JSON 원문
+	private String result;
+	private String error;
+	private long createdAt;
+	private long updatedAt;
+
+	public PlanInfoRequest toRequest() {
+		PlanInfoRequest request = new PlanInfoRequest();
+		request.setCity(city);
+		request.setStartDate(startDate);
+		request.setEndDate(endDate);
+		return request;
+	}
+}
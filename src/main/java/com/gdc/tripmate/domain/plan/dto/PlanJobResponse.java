@@ -0,0 +1,37 @@
+package com.gdc.tripmate.domain.plan.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 비동기 일정 생성 작업 조회 응답
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PlanJobResponse {
+
+	private String jobId;
+	private PlanJobStatus status;
+	private JsonNode result;
+	private String error;
+	private long createdAt;
+	private long updatedAt;
+
+	public static PlanJobResponse from(PlanJob job, ObjectMapper objectMapper) {
+		JsonNode result = null;
+		if (job.getResult() != null) {
+			try {
+				result = objectMapper.readTree(job.getResult());
+			} catch (JsonProcessingException e) {
+				// 손상된 결과는 생략하고 상태만 전달
+			}
+		}
+		return new PlanJobResponse(job.getJobId(), job.getStatus(), result, job.getError(),
+				job.getCreatedAt(), job.getUpdatedAt());
+	}
+}
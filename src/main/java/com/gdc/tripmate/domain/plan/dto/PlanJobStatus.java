@@ -0,0 +1,12 @@
+package com.gdc.tripmate.domain.plan.dto;
+
+/**
+ * 비동기 일정 생성 작업 상태
+ */
+public enum PlanJobStatus {
+	QUEUED, RUNNING, DONE, FAILED;
+
+	public boolean isFinished() {
+		return this == DONE || this == FAILED;
+	}
+}
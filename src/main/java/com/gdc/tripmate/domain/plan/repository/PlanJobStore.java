@@ -0,0 +1,43 @@
+package com.gdc.tripmate.domain.plan.repository;
+
+import com.gdc.tripmate.domain.plan.dto.PlanJob;
+import com.gdc.tripmate.domain.plan.dto.PlanJobStatus;
+
+/**
+ * 비동기 일정 생성 작업 저장소 (작업 정보와 대기열)
+ */
+public interface PlanJobStore {
+
+	String EVENT_CHANNEL = "PLAN_JOB_EVENTS";
+
+	/**
+	 * 작업 저장 후 대기열에 추가 대기열이 가득 차 있으면 저장하지 않고 false 반환
+	 */
+	boolean enqueue(PlanJob job, long ttlMillis, int maxQueued);
+
+	/**
+	 * 대기열에서 다음 작업 ID를 꺼냄 (없으면 null) 처리 기한 안에 완료/되돌림이 없으면 {@link #requeueExpired(int)}가 다시 대기열에 넣음
+	 */
+	String poll(long leaseMillis);
+
+	/**
+	 * 다시 처리하도록 대기 상태로 바꾸고 대기열 끝에 추가
+	 */
+	void requeue(String jobId);
+
+	/**
+	 * 처리 기한이 지난 작업(워커 중단 등)을 대기 상태로 되돌림
+	 *
+	 * @return 되돌린 작업 수
+	 */
+	int requeueExpired(int limit);
+
+	PlanJob find(String jobId);
+
+	void markRunning(String jobId);
+
+	/**
+	 * 작업 결과 저장 후 {@link #EVENT_CHANNEL}로 완료 알림 발행
+	 */
+	void complete(String jobId, PlanJobStatus status, String result, String error);
+}
@@ -0,0 +1,200 @@
+package com.gdc.tripmate.domain.plan.repository;
+
+import com.gdc.tripmate.domain.plan.dto.PlanJob;
+import com.gdc.tripmate.domain.plan.dto.PlanJobStatus;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis 기반 작업 저장소 작업은 Hash(PLAN_JOB:<id>), 대기열은 List(PLAN_JOB_QUEUE)로 관리하여 여러 서버의 워커가 함께 처리
+ * <p>
+ * 꺼낸 작업은 처리 기한을 점수로 하는 Sorted Set(PLAN_JOB_LEASES)에 함께 기록하여, 워커가 중단되면 기한이 지난 작업을 대기열로 되돌림
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisPlanJobStore implements PlanJobStore {
+
+	private static final String JOB_KEY_PREFIX = "PLAN_JOB:";
+	private static final String QUEUE_KEY = "PLAN_JOB_QUEUE";
+	private static final String LEASES_KEY = "PLAN_JOB_LEASES";
+
+	private static final String STATUS_FIELD = "status";
+	private static final String OWNER_ID_FIELD = "ownerId";
+	private static final String CITY_FIELD = "city";
+	private static final String START_DATE_FIELD = "startDate";
+	private static final String END_DATE_FIELD = "endDate";
+	private static final String RESULT_FIELD = "result";
+	private static final String ERROR_FIELD = "error";
+	private static final String CREATED_AT_FIELD = "createdAt";
+	private static final String UPDATED_AT_FIELD = "updatedAt";
+
+	// KEYS[1]=PLAN_JOB:<id>, KEYS[2]=PLAN_JOB_QUEUE
+	// ARGV[1]=작업 ID, ARGV[2]=최대 대기 수, ARGV[3]=TTL(ms), ARGV[4..]=필드/값 쌍
+	private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('LLEN', KEYS[2]) >= tonumber(ARGV[2]) then return 0 end "
+					+ "redis.call('HSET', KEYS[1], unpack(ARGV, 4)) "
+					+ "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+					+ "redis.call('LPUSH', KEYS[2], ARGV[1]) "
+					+ "return 1",
+			Long.class);
+
+	// KEYS[1]=PLAN_JOB_QUEUE, KEYS[2]=PLAN_JOB_LEASES / ARGV[1]=처리 기한(ms)
+	// 꺼내기와 처리 기한 기록을 함께 처리 (그 사이 워커가 중단돼도 작업이 사라지지 않도록)
+	private static final RedisScript<String> POLL_SCRIPT = new DefaultRedisScript<>(
+			"local id = redis.call('RPOP', KEYS[1]) "
+					+ "if not id then return false end "
+					+ "redis.call('ZADD', KEYS[2], ARGV[1], id) "
+					+ "return id",
+			String.class);
+
+	// KEYS[1]=PLAN_JOB:<id>, KEYS[2]=PLAN_JOB_QUEUE, KEYS[3]=PLAN_JOB_LEASES
+	// ARGV[1]=작업 ID, ARGV[2]=현재 시각(ms)
+	private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>(
+			"redis.call('ZREM', KEYS[3], ARGV[1]) "
+					+ "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+					+ "redis.call('HSET', KEYS[1], 'status', 'QUEUED', 'updatedAt', ARGV[2]) "
+					+ "redis.call('LPUSH', KEYS[2], ARGV[1]) "
+					+ "return 1",
+			Long.class);
+
+	// KEYS[1]=PLAN_JOB:<id>, KEYS[2]=PLAN_JOB_QUEUE, KEYS[3]=PLAN_JOB_LEASES
+	// ARGV[1]=작업 ID, ARGV[2]=현재 시각(ms)
+	// 기한이 지난 작업 중 끝나지 않은 작업은 대기열 맨 앞(다음에 꺼낼 위치)으로 되돌림
+	// 조회 이후 다른 서버가 먼저 되돌렸거나 작업이 끝나 기한 기록이 없어졌으면 건너뜀
+	private static final RedisScript<Long> REQUEUE_EXPIRED_SCRIPT = new DefaultRedisScript<>(
+			"local deadline = redis.call('ZSCORE', KEYS[3], ARGV[1]) "
+					+ "if not deadline or tonumber(deadline) > tonumber(ARGV[2]) then return 0 end "
+					+ "redis.call('ZREM', KEYS[3], ARGV[1]) "
+					+ "local status = redis.call('HGET', KEYS[1], 'status') "
+					+ "if status ~= 'QUEUED' and status ~= 'RUNNING' then return 0 end "
+					+ "redis.call('HSET', KEYS[1], 'status', 'QUEUED', 'updatedAt', ARGV[2]) "
+					+ "redis.call('RPUSH', KEYS[2], ARGV[1]) "
+					+ "return 1",
+			Long.class);
+
+	// KEYS[1]=PLAN_JOB:<id>, KEYS[2]=PLAN_JOB_LEASES / ARGV[1]=알림 채널, ARGV[2]=작업 ID, ARGV[3..]=필드/값 쌍
+	// 만료된 작업은 다시 만들지 않음
+	private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+			"redis.call('ZREM', KEYS[2], ARGV[2]) "
+					+ "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+					+ "redis.call('HSET', KEYS[1], unpack(ARGV, 3)) "
+					+ "redis.call('PUBLISH', ARGV[1], ARGV[2]) "
+					+ "return 1",
+			Long.class);
+
+	// KEYS[1]=PLAN_JOB:<id> / ARGV[1..]=필드/값 쌍
+	private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+					+ "redis.call('HSET', KEYS[1], unpack(ARGV)) "
+					+ "return 1",
+			Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Override
+	public boolean enqueue(PlanJob job, long ttlMillis, int maxQueued) {
+		Long enqueued = redisTemplate.execute(ENQUEUE_SCRIPT,
+				List.of(JOB_KEY_PREFIX + job.getJobId(), QUEUE_KEY),
+				job.getJobId(), String.valueOf(maxQueued), String.valueOf(ttlMillis),
+				STATUS_FIELD, job.getStatus().name(),
+				OWNER_ID_FIELD, String.valueOf(job.getOwnerId()),
+				CITY_FIELD, nullToEmpty(job.getCity()),
+				START_DATE_FIELD, nullToEmpty(job.getStartDate()),
+				END_DATE_FIELD, nullToEmpty(job.getEndDate()),
+				CREATED_AT_FIELD, String.valueOf(job.getCreatedAt()),
+				UPDATED_AT_FIELD, String.valueOf(job.getUpdatedAt()));
+		return Long.valueOf(1).equals(enqueued);
+	}
+
+	@Override
+	public String poll(long leaseMillis) {
+		// BRPOP은 명령 타임아웃보다 오래 대기할 수 없으므로 RPOP 후 워커가 쉬는 방식 사용
+		return redisTemplate.execute(POLL_SCRIPT, List.of(QUEUE_KEY, LEASES_KEY),
+				String.valueOf(System.currentTimeMillis() + leaseMillis));
+	}
+
+	@Override
+	public void requeue(String jobId) {
+		redisTemplate.execute(REQUEUE_SCRIPT, List.of(JOB_KEY_PREFIX + jobId, QUEUE_KEY, LEASES_KEY),
+				jobId, String.valueOf(System.currentTimeMillis()));
+	}
+
+	@Override
+	public int requeueExpired(int limit) {
+		long now = System.currentTimeMillis();
+		Set<String> expired = redisTemplate.opsForZSet().rangeByScore(LEASES_KEY, Double.NEGATIVE_INFINITY, now,
+				0, limit);
+		if (expired == null || expired.isEmpty()) {
+			return 0;
+		}
+
+		// 작업별 키를 선언해 스크립트를 실행하고, 한 번의 파이프라인으로 전송
+		List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+				for (String jobId : expired) {
+					ops.execute(REQUEUE_EXPIRED_SCRIPT, List.of(JOB_KEY_PREFIX + jobId, QUEUE_KEY, LEASES_KEY),
+							jobId, String.valueOf(now));
+				}
+				return null;
+			}
+		});
+		return (int) results.stream().filter(Long.valueOf(1)::equals).count();
+	}
+
+	@Override
+	public PlanJob find(String jobId) {
+		List<Object> values = redisTemplate.opsForHash().multiGet(JOB_KEY_PREFIX + jobId,
+				List.of(STATUS_FIELD, OWNER_ID_FIELD, CITY_FIELD, START_DATE_FIELD, END_DATE_FIELD,
+						RESULT_FIELD, ERROR_FIELD, CREATED_AT_FIELD, UPDATED_AT_FIELD));
+		if (values.get(0) == null) {
+			return null;
+		}
+
+		return new PlanJob(
+				jobId,
+				PlanJobStatus.valueOf((String) values.get(0)),
+				Long.valueOf((String) values.get(1)),
+				(String) values.get(2),
+				(String) values.get(3),
+				(String) values.get(4),
+				emptyToNull((String) values.get(5)),
+				emptyToNull((String) values.get(6)),
+				Long.parseLong((String) values.get(7)),
+				Long.parseLong((String) values.get(8)));
+	}
+
+	@Override
+	public void markRunning(String jobId) {
+		redisTemplate.execute(UPDATE_SCRIPT, List.of(JOB_KEY_PREFIX + jobId),
+				STATUS_FIELD, PlanJobStatus.RUNNING.name(),
+				UPDATED_AT_FIELD, String.valueOf(System.currentTimeMillis()));
+	}
+
+	@Override
+	public void complete(String jobId, PlanJobStatus status, String result, String error) {
+		redisTemplate.execute(COMPLETE_SCRIPT, List.of(JOB_KEY_PREFIX + jobId, LEASES_KEY),
+				EVENT_CHANNEL, jobId,
+				STATUS_FIELD, status.name(),
+				RESULT_FIELD, nullToEmpty(result),
+				ERROR_FIELD, nullToEmpty(error),
+				UPDATED_AT_FIELD, String.valueOf(System.currentTimeMillis()));
+	}
+
+	private String nullToEmpty(String value) {
+		return value == null ? "" : value;
+	}
+
+	private String emptyToNull(String value) {
+		return value == null || value.isEmpty() ? null : value;
+	}
+}
@@ -0,0 +1,281 @@
+package com.gdc.tripmate.domain.plan.service;
+
+import com.gdc.tripmate.domain.plan.service.PlanGenerationGate.Permit;
+import com.gdc.tripmate.global.resilience.CircuitBreaker;
+import com.gdc.tripmate.global.resilience.CircuitBreaker.Permission;
+import com.gdc.tripmate.global.resilience.CircuitBreaker.State;
+import com.gdc.tripmate.global.resilience.CircuitOpenException;
+import com.gdc.tripmate.global.resilience.RetryBudget;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+/**
+ * AI 서버 호출 보호 계층 엔드포인트별 서킷 브레이커, 재시도 예산, 선택적 헤지 요청
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AiUpstreamResilience {
+
+	private final MeterRegistry meterRegistry;
+	private final PlanGenerationGate planGenerationGate;
+
+	@Value("${app.ai.resilience.attempt-timeout-seconds:45}")
+	private long attemptTimeoutSeconds;
+
+	@Value("${app.ai.resilience.breaker.window-size:20}")
+	private int breakerWindowSize;
+
+	@Value("${app.ai.resilience.breaker.minimum-calls:10}")
+	private int breakerMinimumCalls;
+
+	@Value("${app.ai.resilience.breaker.failure-rate-threshold:0.5}")
+	private double breakerFailureRateThreshold;
+
+	@Value("${app.ai.resilience.breaker.open-duration-millis:30000}")
+	private long breakerOpenDurationMillis;
+
+	@Value("${app.ai.resilience.breaker.half-open-trial-calls:3}")
+	private int breakerHalfOpenTrialCalls;
+
+	@Value("${app.ai.resilience.retry.max-retries:1}")
+	private int maxRetries;
+
+	@Value("${app.ai.resilience.retry.backoff-millis:300}")
+	private long retryBackoffMillis;
+
+	@Value("${app.ai.resilience.retry.budget-ratio:0.2}")
+	private double retryBudgetRatio;
+
+	@Value("${app.ai.resilience.retry.budget-burst:5}")
+	private int retryBudgetBurst;
+
+	// 헤지 요청: 응답이 p95 지연을 넘기면 같은 요청을 한 번 더 보내 먼저 온 응답 사용
+	@Value("${app.ai.resilience.hedge.enabled:false}")
+	private boolean hedgeEnabled;
+
+	@Value("${app.ai.resilience.hedge.min-delay-millis:5000}")
+	private long hedgeMinDelayMillis;
+
+	// p95 값을 믿을 수 있을 만큼 쌓이기 전에는 최소 지연 사용
+	private static final long HEDGE_MIN_SAMPLES = 20;
+
+	private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+	private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+	private RetryBudget retryBudget;
+
+	@PostConstruct
+	public void init() {
+		this.retryBudget = new RetryBudget(retryBudgetRatio, retryBudgetBurst);
+	}
+
+	/**
+	 * 단건 응답 호출 실행 서킷 브레이커 확인, 시도별 타임아웃, 예산 안에서의 재시도와 헤지 적용
+	 */
+	public <T> Mono<T> execute(String endpoint, Supplier<Mono<T>> call) {
+		return Mono.defer(() -> {
+			retryBudget.deposit();
+			Mono<T> attempt = Mono.defer(() -> guarded(endpoint, call.get()));
+			Mono<T> hedged = hedgeEnabled ? hedge(endpoint, attempt) : attempt;
+
+			return hedged.retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(retryBackoffMillis))
+					.filter(e -> isRetryable(e) && retryBudget.tryWithdraw())
+					.doBeforeRetry(signal -> meterRegistry.counter("ai.upstream.retries",
+							"endpoint", endpoint).increment())
+					.onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+		});
+	}
+
+	/**
+	 * 스트리밍 호출 보호 이미 전달을 시작한 응답은 재시도할 수 없으므로 서킷 브레이커만 적용
+	 */
+	public <T> Flux<T> guardStream(String endpoint, Flux<T> call) {
+		return Flux.defer(() -> {
+			Optional<Permission> permission = circuitBreaker(endpoint).tryAcquirePermission();
+			if (permission.isEmpty()) {
+				return Flux.error(new CircuitOpenException(endpoint));
+			}
+			return call
+					.doOnComplete(permission.get()::onSuccess)
+					.doOnError(e -> recordOutcome(permission.get(), e))
+					.doOnCancel(permission.get()::release);
+		});
+	}
+
+	public State getState(String endpoint) {
+		return circuitBreaker(endpoint).getState();
+	}
+
+	private <T> Mono<T> guarded(String endpoint, Mono<T> call) {
+		Optional<Permission> permission = circuitBreaker(endpoint).tryAcquirePermission();
+		if (permission.isEmpty()) {
+			return Mono.error(new CircuitOpenException(endpoint));
+		}
+
+		Timer latencyTimer = latencyTimer(endpoint);
+		long startedAt = System.nanoTime();
+		return call
+				.timeout(Duration.ofSeconds(attemptTimeoutSeconds))
+				.doOnSuccess(result -> {
+					permission.get().onSuccess();
+					latencyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+				})
+				.doOnError(e -> recordOutcome(permission.get(), e))
+				// 헤지 경쟁에서 진 요청 등 결과 없이 취소된 시도 (이미 결과를 기록했다면 무시됨)
+				.doOnCancel(permission.get()::release);
+	}
+
+	/**
+	 * 기본 요청이 지연 기준을 넘기면 예산과 게이트 허가 안에서 헤지 요청을 보내고 먼저 도착한 응답 사용 (나머지는 취소)
+	 * <p>
+	 * 한쪽이 실패해도 다른 쪽 응답을 기다리고, 둘 다 실패하면 기본 요청의 오류를 그대로 전달
+	 */
+	private <T> Mono<T> hedge(String endpoint, Mono<T> attempt) {
+		return Mono.defer(() -> {
+			// 헤지 전송 전에 기본 요청이 끝나면 지연을 기다리지 않고 헤지 생략
+			Sinks.One<Boolean> primaryDone = Sinks.one();
+			Mono<T> primary = attempt.doOnTerminate(() -> primaryDone.tryEmitValue(true));
+
+			Mono<T> hedgeAttempt = Mono.delay(hedgeDelay(endpoint))
+					.takeUntilOther(primaryDone.asMono())
+					.flatMap(tick -> {
+						// 헤지도 AI 서버 호출 한 건이므로 호출자와 별도의 게이트 허가가 있을 때만 전송
+						Optional<Permit> permit = planGenerationGate.tryAcquireNow();
+						if (permit.isEmpty()) {
+							return skipHedge(endpoint, "gate");
+						}
+						if (!retryBudget.tryWithdraw()) {
+							permit.get().release();
+							return skipHedge(endpoint, "budget");
+						}
+						meterRegistry.counter("ai.upstream.hedges", "endpoint", endpoint).increment();
+						return attempt.doFinally(signal -> permit.get().release());
+					});
+
+			return Mono.firstWithValue(primary, hedgeAttempt)
+					.onErrorResume(NoSuchElementException.class, e -> {
+						Throwable cause = firstCause(e);
+						return cause == null ? Mono.empty() : Mono.error(cause);
+					});
+		});
+	}
+
+	private <T> Mono<T> skipHedge(String endpoint, String reason) {
+		meterRegistry.counter("ai.upstream.hedges.skipped", "endpoint", endpoint, "reason", reason)
+				.increment();
+		return Mono.empty();
+	}
+
+	/**
+	 * 모든 요청이 값 없이 끝났을 때 원인으로 묶인 오류 중 첫 번째 (기본 요청 순서) 꺼냄 빈 완료만 있었다면 null
+	 */
+	private static Throwable firstCause(NoSuchElementException e) {
+		if (e.getCause() == null) {
+			return null;
+		}
+		for (Throwable cause : Exceptions.unwrapMultiple(e.getCause())) {
+			// 빈 완료는 NoSuchElementException 으로 기록됨
+			if (!(cause instanceof NoSuchElementException)) {
+				return cause;
+			}
+		}
+		return null;
+	}
+
+	private Duration hedgeDelay(String endpoint) {
+		Timer latencyTimer = latencyTimer(endpoint);
+		if (latencyTimer.count() < HEDGE_MIN_SAMPLES) {
+			return Duration.ofMillis(hedgeMinDelayMillis);
+		}
+		for (ValueAtPercentile percentile : latencyTimer.takeSnapshot().percentileValues()) {
+			if (percentile.percentile() == 0.95) {
+				long p95Millis = (long) percentile.value(TimeUnit.MILLISECONDS);
+				return Duration.ofMillis(Math.max(hedgeMinDelayMillis, p95Millis));
+			}
+		}
+		return Duration.ofMillis(hedgeMinDelayMillis);
+	}
+
+	private void recordOutcome(Permission permission, Throwable e) {
+		if (isFailure(e)) {
+			permission.onFailure();
+		} else {
+			// 잘못된 요청(4xx)은 서버 상태와 무관하므로 실패로 집계하지 않음
+			permission.onSuccess();
+		}
+	}
+
+	/**
+	 * 서버 장애로 볼 오류 (연결 실패, 타임아웃, 5xx)
+	 */
+	private boolean isFailure(Throwable e) {
+		if (e instanceof WebClientResponseException responseException) {
+			return responseException.getStatusCode().is5xxServerError();
+		}
+		return !(e instanceof CircuitOpenException);
+	}
+
+	/**
+	 * 다시 보내도 되는 오류 (연결 실패, 게이트웨이 오류) 타임아웃은 헤지 요청이 담당하므로 재시도하지 않음
+	 */
+	private boolean isRetryable(Throwable e) {
+		if (e instanceof WebClientRequestException) {
+			return true;
+		}
+		if (e instanceof WebClientResponseException responseException) {
+			int status = responseException.getStatusCode().value();
+			return status == 502 || status == 503 || status == 504;
+		}
+		return false;
+	}
+
+	private CircuitBreaker circuitBreaker(String endpoint) {
+		return circuitBreakers.computeIfAbsent(endpoint, name -> {
+			CircuitBreaker circuitBreaker = new CircuitBreaker(name, breakerWindowSize,
+					breakerMinimumCalls, breakerFailureRateThreshold, breakerOpenDurationMillis,
+					breakerHalfOpenTrialCalls, this::onStateChange);
+			for (State state : State.values()) {
+				Gauge.builder("ai.circuit.state", circuitBreaker,
+								breaker -> breaker.getState() == state ? 1 : 0)
+						.tag("endpoint", name)
+						.tag("state", state.name().toLowerCase())
+						.register(meterRegistry);
+			}
+			return circuitBreaker;
+		});
+	}
+
+	private Timer latencyTimer(String endpoint) {
+		return latencyTimers.computeIfAbsent(endpoint, name -> Timer.builder("ai.upstream.latency")
+				.tag("endpoint", name)
+				.publishPercentiles(0.95)
+				.register(meterRegistry));
+	}
+
+	private void onStateChange(CircuitBreaker circuitBreaker, State from, State to) {
+		meterRegistry.counter("ai.circuit.transitions",
+				"endpoint", circuitBreaker.getName(), "to", to.name().toLowerCase()).increment();
+		log.warn("AI 서버 서킷 브레이커 상태 변경: endpoint={}, {} -> {}", circuitBreaker.getName(), from, to);
+	}
+}
@@ -0,0 +1,111 @@
+package com.gdc.tripmate.domain.plan.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import java.io.IOException;
+
+/**
+ * 스트리밍 중인 JSON 응답을 청크 단위로 검사하는 검증기 (본문 전체를 메모리에 모으지 않음)
+ * <p>
+ * 논블로킹 파서에 도착한 바이트만 공급하고 구문 오류, 최상위 error 필드, 문서 완결 여부를 기록
+ */
+class JsonStreamValidator {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private final JsonParser parser;
+	private final ByteArrayFeeder feeder;
+
+	private int depth;
+	private boolean complete;
+	private boolean upstreamError;
+	private String failure;
+	private long totalBytes;
+
+	JsonStreamValidator() {
+		try {
+			this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+		} catch (IOException e) {
+			throw new IllegalStateException("JSON 스트림 파서를 생성할 수 없습니다.", e);
+		}
+		this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+	}
+
+	/**
+	 * 도착한 청크 공급 이미 오류가 발견된 뒤에는 검사하지 않음
+	 */
+	void feed(byte[] chunk) {
+		totalBytes += chunk.length;
+		if (failure != null) {
+			return;
+		}
+		try {
+			feeder.feedInput(chunk, 0, chunk.length);
+			drain();
+		} catch (IOException e) {
+			failure = e.getMessage();
+		}
+	}
+
+	/**
+	 * 스트림 종료 처리 닫히지 않은 객체/배열이 남아 있으면 실패로 기록
+	 */
+	void finish() {
+		if (failure != null) {
+			return;
+		}
+		try {
+			feeder.endOfInput();
+			drain();
+			if (!complete) {
+				failure = "JSON 문서가 완결되지 않았습니다.";
+			}
+		} catch (IOException e) {
+			failure = e.getMessage();
+		}
+	}
+
+	boolean isValid() {
+		return failure == null && complete && !upstreamError;
+	}
+
+	boolean isUpstreamError() {
+		return upstreamError;
+	}
+
+	String getFailure() {
+		return failure;
+	}
+
+	long getTotalBytes() {
+		return totalBytes;
+	}
+
+	private void drain() throws IOException {
+		JsonToken token;
+		while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+			switch (token) {
+				case START_OBJECT, START_ARRAY -> depth++;
+				case END_OBJECT, END_ARRAY -> {
+					depth--;
+					if (depth == 0) {
+						complete = true;
+					}
+				}
+				case FIELD_NAME -> {
+					// AI 서버가 200 응답 본문에 실패를 담아 보내는 경우
+					if (depth == 1 && "error".equals(parser.currentName())) {
+						upstreamError = true;
+					}
+				}
+				default -> {
+					if (depth == 0) {
+						complete = true;
+					}
+				}
+			}
+		}
+	}
+}
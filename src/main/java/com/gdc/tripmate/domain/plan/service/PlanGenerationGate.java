@@ -0,0 +1,158 @@
+package com.gdc.tripmate.domain.plan.service;
+
+import com.gdc.tripmate.global.error.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * AI 서버 동시 호출 수 제한 (논블로킹 세마포어 + 대기열)
+ * <p>
+ * 동시 실행 수를 넘는 요청은 대기열에서 허가를 기다리고, 대기열까지 가득 차면 스레드를 막지 않고 즉시 거절
+ */
+@Component
+@RequiredArgsConstructor
+public class PlanGenerationGate {
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${app.ai.gate.max-concurrent:20}")
+	private int maxConcurrent;
+
+	@Value("${app.ai.gate.max-queued:50}")
+	private int maxQueued;
+
+	@Value("${app.ai.gate.retry-after-seconds:10}")
+	private long retryAfterSeconds;
+
+	private final AtomicInteger active = new AtomicInteger();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+	@PostConstruct
+	public void init() {
+		meterRegistry.gauge("plan.gate.active", active);
+		meterRegistry.gauge("plan.gate.queued", queued);
+	}
+
+	/**
+	 * 응답을 시작하기 전 수용 여부 확인 - 실행 중과 대기열이 모두 가득 차면 바로 거절 (스트리밍처럼 상태 코드를 먼저 보내는 요청용)
+	 */
+	public void checkAdmission() {
+		if (active.get() >= maxConcurrent && queued.get() >= maxQueued) {
+			throw rejected();
+		}
+	}
+
+	/**
+	 * 실행 허가 획득 허가를 받은 쪽은 작업이 끝나면 반드시 {@link Permit#release()} 호출
+	 */
+	public Mono<Permit> acquire() {
+		return Mono.<Permit>create(sink -> {
+			if (tryAcquire()) {
+				sink.success(new Permit());
+				return;
+			}
+
+			if (queued.incrementAndGet() > maxQueued) {
+				queued.decrementAndGet();
+				sink.error(rejected());
+				return;
+			}
+
+			Waiter waiter = new Waiter(sink);
+			// 대기 중 클라이언트가 떠나면 대기열에서 제외
+			sink.onCancel(() -> {
+				if (waiter.claimed.compareAndSet(false, true) && waiters.remove(waiter)) {
+					queued.decrementAndGet();
+				}
+			});
+			waiters.offer(waiter);
+			// 대기열에 넣는 사이 허가가 반환됐을 수 있으므로 다시 배분
+			drain();
+		})
+				// 허가 전달과 취소가 겹쳐 버려진 허가는 바로 반환
+				.doOnDiscard(Permit.class, Permit::release);
+	}
+
+	/**
+	 * 기다리지 않고 남은 허가만 획득 자리가 없거나 대기 중인 요청이 있으면 빈 값 (헤지처럼 생략해도 되는 추가 호출용)
+	 */
+	public Optional<Permit> tryAcquireNow() {
+		if (!waiters.isEmpty() || !tryAcquire()) {
+			return Optional.empty();
+		}
+		return Optional.of(new Permit());
+	}
+
+	private ServiceOverloadedException rejected() {
+		meterRegistry.counter("plan.gate.rejected").increment();
+		return new ServiceOverloadedException("일정 생성 요청이 많아 잠시 후 다시 시도해 주세요.", retryAfterSeconds);
+	}
+
+	private boolean tryAcquire() {
+		while (true) {
+			int current = active.get();
+			if (current >= maxConcurrent) {
+				return false;
+			}
+			if (active.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	private void release() {
+		active.decrementAndGet();
+		drain();
+	}
+
+	/**
+	 * 남은 허가를 대기 순서대로 배분
+	 */
+	private void drain() {
+		while (!waiters.isEmpty() && tryAcquire()) {
+			Waiter waiter = waiters.poll();
+			if (waiter == null) {
+				active.decrementAndGet();
+				return;
+			}
+			queued.decrementAndGet();
+			if (waiter.claimed.compareAndSet(false, true)) {
+				waiter.sink.success(new Permit());
+			} else {
+				active.decrementAndGet();
+			}
+		}
+	}
+
+	private record Waiter(MonoSink<Permit> sink, AtomicBoolean claimed) {
+
+		Waiter(MonoSink<Permit> sink) {
+			this(sink, new AtomicBoolean());
+		}
+	}
+
+	/**
+	 * 실행 허가 여러 번 반환해도 한 번만 반영
+	 */
+	public class Permit {
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		public void release() {
+			if (released.compareAndSet(false, true)) {
+				PlanGenerationGate.this.release();
+			}
+		}
+	}
+}
@@ -3,8 +3,17 @@ package com.gdc.tripmate.domain.plan.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.gdc.tripmate.domain.plan.dto.PlanInfoRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface PlanInfoService {
 
-	JsonNode handlePlanInfo(PlanInfoRequest request);
-}
\ No newline at end of file
+	Mono<JsonNode> handlePlanInfo(PlanInfoRequest request);
+
+	/**
+	 * AI 응답 본문을 도착하는 대로 전달 (본문 전체를 모으거나 다시 직렬화하지 않음)
+	 *
+	 * @throws com.gdc.tripmate.global.error.ServiceOverloadedException 동시 실행과 대기열이 모두 가득 찬 경우 (호출 즉시)
+	 */
+	Flux<byte[]> streamPlanInfo(PlanInfoRequest request);
+}
@@ -1,75 +1,248 @@
 package com.gdc.tripmate.domain.plan.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.gdc.tripmate.domain.plan.dto.CachedPlan;
 import com.gdc.tripmate.domain.plan.dto.PlanInfoRequest;
+import com.gdc.tripmate.global.error.ServiceOverloadedException;
+import com.gdc.tripmate.global.resilience.CircuitOpenException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class PlanInfoServiceImpl implements PlanInfoService {
 
+	private static final String GENERATE_PATH = "/ai/generate";
+
+	private final WebClient aiWebClient;
+	private final MeterRegistry meterRegistry;
+	private final PlanResultCache planResultCache;
+	private final PlanGenerationGate planGenerationGate;
+	private final AiUpstreamResilience upstreamResilience;
+
+	// 같은 키로 진행 중인 생성 요청 (동시에 들어온 동일 요청은 한 번의 AI 호출 결과를 공유)
+	private final Map<String, Mono<JsonNode>> inFlightGenerations = new ConcurrentHashMap<>();
+
 	@Override
-	public JsonNode handlePlanInfo(PlanInfoRequest request) {
+	public Mono<JsonNode> handlePlanInfo(PlanInfoRequest request) {
+		log.debug("AI 일정 생성 요청: city={}, startDate={}, endDate={}",
+				request.getCity(), request.getStartDate(), request.getEndDate());
+
+		String cacheKey = planResultCache.keyOf(request);
+		if (!planResultCache.isEnabled()) {
+			return coalesce(cacheKey, () -> withFallback(request, admitted(generatePlan(request))));
+		}
+
+		return planResultCache.get(cacheKey)
+				.map(cached -> {
+					// 오래된 결과는 바로 응답하고 재생성은 뒤에서 진행
+					if (cached.isStale()) {
+						revalidate(cacheKey, request);
+					}
+					return cached.getPlan();
+				})
+				// 대체 응답은 캐시에 저장하지 않도록 저장 이후에 대체 처리
+				.switchIfEmpty(Mono.defer(() -> coalesce(cacheKey, () -> withFallback(request,
+						admitted(generatePlan(request))
+								.flatMap(plan -> planResultCache.put(cacheKey, plan).thenReturn(plan))))));
+	}
+
+	@Override
+	public Flux<byte[]> streamPlanInfo(PlanInfoRequest request) {
+		log.debug("AI 일정 스트리밍 요청: city={}, startDate={}, endDate={}",
+				request.getCity(), request.getStartDate(), request.getEndDate());
+
+		// 응답 상태 코드가 나가기 전에 과부하 여부를 확인해 503 + Retry-After 로 바로 거절
+		planGenerationGate.checkAdmission();
+
+		return Flux.defer(() -> {
+			long startedAt = System.nanoTime();
+			AtomicBoolean firstChunk = new AtomicBoolean(true);
+			JsonStreamValidator validator = new JsonStreamValidator();
+
+			return Flux.usingWhen(planGenerationGate.acquire(),
+					permit -> upstreamResilience.guardStream(GENERATE_PATH,
+							generate(request).bodyToFlux(DataBuffer.class)),
+					permit -> Mono.fromRunnable(permit::release))
+					.map(this::toBytes)
+					// 검증 탭: 전달 흐름은 막지 않고 도착한 청크만 검사
+					.doOnNext(chunk -> {
+						if (firstChunk.compareAndSet(true, false)) {
+							Timer.builder("plan.stream.first-byte")
+									.register(meterRegistry)
+									.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+						}
+						validator.feed(chunk);
+					})
+					.doOnComplete(() -> {
+						validator.finish();
+						recordValidation(request, validator);
+					})
+					// 과부하 거절은 에러 JSON으로 바꾸지 않고 그대로 전달
+					.onErrorResume(e -> !(e instanceof ServiceOverloadedException), e -> {
+						log.warn("AI 서버 스트리밍 실패: city={}, error={}", request.getCity(), e.getMessage());
+						// 아직 아무것도 보내지 않았다면 기존과 같은 에러 JSON으로 응답
+						if (firstChunk.get()) {
+							return Mono.just(errorNode("AI 서버 요청 실패: " + e.getMessage()).toString()
+									.getBytes(StandardCharsets.UTF_8));
+						}
+						return Mono.error(e);
+					});
+		});
+	}
+
+	/**
+	 * AI 서버에 일정 생성 요청 (응답을 기다리는 동안 서블릿 스레드를 점유하지 않음)
+	 */
+	private Mono<JsonNode> generatePlan(PlanInfoRequest request) {
+		return upstreamResilience.execute(GENERATE_PATH,
+				() -> generate(request).bodyToMono(JsonNode.class));
+	}
+
+	/**
+	 * AI 서버 호출 실패 시 대체 응답으로 전환 (과부하 거절은 그대로 전달해 503 응답)
+	 */
+	private Mono<JsonNode> withFallback(PlanInfoRequest request, Mono<JsonNode> generation) {
+		return generation.onErrorResume(e -> !(e instanceof ServiceOverloadedException),
+				e -> fallback(request, e));
+	}
+
+	/**
+	 * AI 서버 호출 실패 시 대체 응답 캐시된 결과가 있으면 사용하고, 없으면 기존 형식의 에러 JSON 반환
+	 */
+	private Mono<JsonNode> fallback(PlanInfoRequest request, Throwable e) {
+		log.warn("AI 서버 요청 실패: city={}, error={}", request.getCity(), e.getMessage());
+
+		return planResultCache.find(planResultCache.keyOf(request))
+				.map(CachedPlan::getPlan)
+				.doOnNext(plan -> meterRegistry.counter("plan.fallback", "source", "cache").increment())
+				.switchIfEmpty(Mono.fromSupplier(() -> {
+					meterRegistry.counter("plan.fallback", "source", "template").increment();
+					return fallbackTemplate(request, e);
+				}));
+	}
+
+	/**
+	 * 동일 키의 진행 중인 생성이 있으면 그 결과를 함께 기다림
+	 */
+	private Mono<JsonNode> coalesce(String key, Supplier<Mono<JsonNode>> generation) {
+		Mono<JsonNode> inFlight = inFlightGenerations.get(key);
+		if (inFlight != null) {
+			meterRegistry.counter("plan.requests.coalesced").increment();
+			return inFlight;
+		}
+		return inFlightGenerations.computeIfAbsent(key, k -> generation.get()
+				.doFinally(signal -> inFlightGenerations.remove(k))
+				// 먼저 구독한 요청이 취소돼도 생성은 계속되고 나머지 요청이 결과를 받음
+				.cache());
+	}
+
+	/**
+	 * 동시 실행 수 제한 안에서 실행 (허가는 완료/실패/취소 시 반환)
+	 */
+	private <T> Mono<T> admitted(Mono<T> work) {
+		return Mono.usingWhen(planGenerationGate.acquire(),
+				permit -> work,
+				permit -> Mono.fromRunnable(permit::release));
+	}
+
+	/**
+	 * 오래된 캐시 결과 재생성 잠금을 얻은 요청만 AI 서버를 호출
+	 * <p>
+	 * 대체 응답 없이 호출하므로 AI 서버 실패 시 기존 결과는 오래된 상태로 남고 새 결과로 저장되지 않음
+	 */
+	private void revalidate(String cacheKey, PlanInfoRequest request) {
+		planResultCache.tryLockRefresh(cacheKey)
+				.filter(Boolean::booleanValue)
+				.flatMap(locked -> admitted(generatePlan(request))
+						.flatMap(plan -> planResultCache.put(cacheKey, plan))
+						// 대기열이 가득 차거나 AI 서버가 실패하면 이번 재생성은 건너뜀 (다음 요청이 다시 시도)
+						.onErrorResume(e -> {
+							if (!(e instanceof ServiceOverloadedException)) {
+								log.warn("일정 캐시 재생성 실패: key={}, error={}", cacheKey, e.getMessage());
+							}
+							return Mono.empty();
+						})
+						.then(planResultCache.unlockRefresh(cacheKey)))
+				.subscribe();
+	}
 
+	private WebClient.ResponseSpec generate(PlanInfoRequest request) {
+		// Flask에 보낼 JSON 구성
+		Map<String, String> aiRequest = new HashMap<>();
+		aiRequest.put("city", request.getCity());
+		aiRequest.put("startDate", request.getStartDate());
+		aiRequest.put("endDate", request.getEndDate());
+
+		return aiWebClient.post()
+				.uri(GENERATE_PATH)
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(aiRequest)
+				.retrieve();
+	}
+
+	/**
+	 * 네트워크 버퍼를 바이트 배열로 복사한 뒤 즉시 반환 (버퍼 누수 방지)
+	 */
+	private byte[] toBytes(DataBuffer buffer) {
 		try {
+			byte[] bytes = new byte[buffer.readableByteCount()];
+			buffer.read(bytes);
+			return bytes;
+		} finally {
+			DataBufferUtils.release(buffer);
+		}
+	}
 
-			// 요청 파라미터 확인용
-			System.out.println("🌐 [프론트 요청]");
-			System.out.println("도시: " + request.getCity());
-			System.out.println("시작날짜: " + request.getStartDate());
-			System.out.println("끝날짜: " + request.getEndDate());
-			// 1. Flask에 보낼 JSON 구성
-			Map<String, String> aiRequest = new HashMap<>();
-			aiRequest.put("city", request.getCity());
-			aiRequest.put("startDate", request.getStartDate());
-			aiRequest.put("endDate", request.getEndDate());
-
-			// 2. 요청 헤더
-			HttpHeaders headers = new HttpHeaders();
-			headers.setContentType(MediaType.APPLICATION_JSON);
-			HttpEntity<Map<String, String>> entity = new HttpEntity<>(aiRequest, headers);
-
-			// 3. Flask 서버 URL
-			String flaskUrl = "http://220.69.209.244:5001/ai/generate";
-
-			// 4. POST 요청
-			RestTemplate restTemplate = new RestTemplate();
-			ResponseEntity<String> flaskResponse = restTemplate.postForEntity(flaskUrl, entity,
-					String.class);
-
-			// Flask 응답 확인용
-			System.out.println("🤖 [AI 응답]");
-			System.out.println(flaskResponse.getBody());
-
-			// 5. Flask 응답을 JSON으로 파싱해서 리턴
-			ObjectMapper mapper = new ObjectMapper();
-			JsonNode result = mapper.readTree(flaskResponse.getBody());
-
-			// 📤 프론트로 보낼 응답 확인
-			System.out.println("📤 [프론트로 전달될 응답]");
-			System.out.println(result);
-
-			return result;
-
-
-		} catch (Exception e) {
-			// 6. 에러 발생 시 JSON 형태로 반환
-			ObjectMapper mapper = new ObjectMapper();
-			ObjectNode errorNode = mapper.createObjectNode();
-			errorNode.put("error", "AI 서버 요청 실패: " + e.getMessage());
-			return errorNode;
+	private void recordValidation(PlanInfoRequest request, JsonStreamValidator validator) {
+		String result = validator.isValid() ? "valid"
+				: validator.isUpstreamError() ? "upstream_error" : "invalid";
+		meterRegistry.counter("plan.stream.validation", "result", result).increment();
+
+		if (!validator.isValid()) {
+			log.warn("AI 스트리밍 응답 검증 실패: city={}, result={}, bytes={}, reason={}",
+					request.getCity(), result, validator.getTotalBytes(), validator.getFailure());
 		}
 	}
 
+	/**
+	 * 대체 일정 템플릿 (클라이언트가 확인하는 error 필드는 유지하고 요청 정보와 대체 응답 여부를 함께 전달)
+	 */
+	private JsonNode fallbackTemplate(PlanInfoRequest request, Throwable e) {
+		String message = e instanceof CircuitOpenException
+				? "AI 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해 주세요."
+				: "AI 서버 요청 실패: " + e.getMessage();
+
+		ObjectNode template = errorNode(message);
+		template.put("fallback", true);
+		template.put("city", request.getCity());
+		template.put("startDate", request.getStartDate());
+		template.put("endDate", request.getEndDate());
+		return template;
+	}
 
-}
\ No newline at end of file
+	private ObjectNode errorNode(String message) {
+		ObjectNode errorNode = JsonNodeFactory.instance.objectNode();
+		errorNode.put("error", message);
+		return errorNode;
+	}
+}
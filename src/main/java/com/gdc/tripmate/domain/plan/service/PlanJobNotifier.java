@@ -0,0 +1,88 @@
+package com.gdc.tripmate.domain.plan.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gdc.tripmate.domain.plan.dto.PlanJob;
+import com.gdc.tripmate.domain.plan.dto.PlanJobResponse;
+import com.gdc.tripmate.domain.plan.dto.PlanJobStatus;
+import com.gdc.tripmate.domain.plan.repository.PlanJobStore;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 작업 완료 알림 전달 어느 서버의 워커가 처리했든 Redis Pub/Sub으로 완료 알림을 받아 이 서버에 연결된 SSE 구독자에게 결과 전송
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlanJobNotifier implements MessageListener {
+
+	private static final String RESULT_EVENT = "result";
+
+	private final PlanJobStore planJobStore;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final ObjectMapper objectMapper;
+
+	private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void init() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(PlanJobStore.EVENT_CHANNEL));
+	}
+
+	public void register(String jobId, SseEmitter emitter) {
+		emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+
+		Runnable remove = () -> emitters.computeIfPresent(jobId, (id, list) -> {
+			list.remove(emitter);
+			return list.isEmpty() ? null : list;
+		});
+		emitter.onCompletion(remove);
+		emitter.onTimeout(remove);
+		emitter.onError(e -> remove.run());
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		notifyFinished(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 작업 결과를 구독자에게 보내고 연결 종료
+	 */
+	public void notifyFinished(String jobId) {
+		List<SseEmitter> subscribers = emitters.remove(jobId);
+		if (subscribers == null) {
+			return;
+		}
+
+		PlanJob job = planJobStore.find(jobId);
+		// 알림 사이에 만료된 작업은 실패로 전달
+		PlanJobResponse payload = job != null ? PlanJobResponse.from(job, objectMapper)
+				: new PlanJobResponse(jobId, PlanJobStatus.FAILED, null, "작업이 만료되었습니다.", 0, 0);
+		for (SseEmitter emitter : subscribers) {
+			try {
+				emitter.send(SseEmitter.event()
+						.id(jobId)
+						.name(RESULT_EVENT)
+						.data(payload, MediaType.APPLICATION_JSON));
+				emitter.complete();
+			} catch (IOException | IllegalStateException e) {
+				log.debug("SSE 구독자 전송 실패: jobId={}, error={}", jobId, e.getMessage());
+			}
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.gdc.tripmate.domain.plan.service;
+
+import com.gdc.tripmate.domain.plan.dto.PlanInfoRequest;
+import com.gdc.tripmate.domain.plan.dto.PlanJobResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface PlanJobService {
+
+	/**
+	 * 일정 생성 작업 등록 후 작업 ID 반환 (생성은 워커가 처리)
+	 */
+	PlanJobResponse submit(Long userId, PlanInfoRequest request);
+
+	PlanJobResponse getJob(Long userId, String jobId);
+
+	/**
+	 * 작업 완료 시 결과를 SSE로 전달
+	 */
+	SseEmitter subscribe(Long userId, String jobId);
+}
@@ -0,0 +1,85 @@
+package com.gdc.tripmate.domain.plan.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gdc.tripmate.domain.plan.dto.PlanInfoRequest;
+import com.gdc.tripmate.domain.plan.dto.PlanJob;
+import com.gdc.tripmate.domain.plan.dto.PlanJobResponse;
+import com.gdc.tripmate.domain.plan.dto.PlanJobStatus;
+import com.gdc.tripmate.domain.plan.repository.PlanJobStore;
+import com.gdc.tripmate.global.error.ResourceNotFoundException;
+import com.gdc.tripmate.global.error.ServiceOverloadedException;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlanJobServiceImpl implements PlanJobService {
+
+	private final PlanJobStore planJobStore;
+	private final PlanJobNotifier planJobNotifier;
+	private final ObjectMapper objectMapper;
+
+	@Value("${app.plan.job.ttl-seconds:3600}")
+	private long jobTtlSeconds;
+
+	@Value("${app.plan.job.max-queued:200}")
+	private int maxQueued;
+
+	@Value("${app.plan.job.sse-timeout-seconds:120}")
+	private long sseTimeoutSeconds;
+
+	@Value("${app.ai.gate.retry-after-seconds:10}")
+	private long retryAfterSeconds;
+
+	@Override
+	public PlanJobResponse submit(Long userId, PlanInfoRequest request) {
+		long now = System.currentTimeMillis();
+		PlanJob job = new PlanJob(UUID.randomUUID().toString(), PlanJobStatus.QUEUED, userId,
+				request.getCity(), request.getStartDate(), request.getEndDate(), null, null, now, now);
+
+		if (!planJobStore.enqueue(job, Duration.ofSeconds(jobTtlSeconds).toMillis(), maxQueued)) {
+			throw new ServiceOverloadedException("대기 중인 일정 생성 작업이 많아 잠시 후 다시 시도해 주세요.",
+					retryAfterSeconds);
+		}
+		log.debug("일정 생성 작업 등록: jobId={}, userId={}, city={}", job.getJobId(), userId,
+				request.getCity());
+		return PlanJobResponse.from(job, objectMapper);
+	}
+
+	@Override
+	public PlanJobResponse getJob(Long userId, String jobId) {
+		return PlanJobResponse.from(findOwnedJob(userId, jobId), objectMapper);
+	}
+
+	@Override
+	public SseEmitter subscribe(Long userId, String jobId) {
+		findOwnedJob(userId, jobId);
+
+		SseEmitter emitter = new SseEmitter(Duration.ofSeconds(sseTimeoutSeconds).toMillis());
+		planJobNotifier.register(jobId, emitter);
+
+		// 구독 등록 전에 이미 끝난 작업은 바로 전달
+		PlanJob job = planJobStore.find(jobId);
+		if (job == null || job.getStatus().isFinished()) {
+			planJobNotifier.notifyFinished(jobId);
+		}
+		return emitter;
+	}
+
+	/**
+	 * 다른 사용자의 작업은 존재 여부도 드러내지 않도록 없는 작업과 같게 처리
+	 */
+	private PlanJob findOwnedJob(Long userId, String jobId) {
+		PlanJob job = planJobStore.find(jobId);
+		if (job == null || !job.getOwnerId().equals(userId)) {
+			throw new ResourceNotFoundException("일정 생성 작업을 찾을 수 없습니다: " + jobId);
+		}
+		return job;
+	}
+}
@@ -0,0 +1,152 @@
+package com.gdc.tripmate.domain.plan.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.gdc.tripmate.domain.plan.dto.PlanJob;
+import com.gdc.tripmate.domain.plan.dto.PlanJobStatus;
+import com.gdc.tripmate.domain.plan.repository.PlanJobStore;
+import com.gdc.tripmate.global.error.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 일정 생성 워커 고정 개수의 가상 스레드가 Redis 대기열에서 작업을 꺼내 처리
+ * <p>
+ * 웹 요청 스레드와 분리되어 있으므로 워커 수와 워커를 실행할 서버 수를 웹 서버와 별도로 조정 가능
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlanJobWorker implements SmartLifecycle {
+
+	private static final int REAP_BATCH_SIZE = 100;
+
+	private final PlanJobStore planJobStore;
+	private final PlanInfoService planInfoService;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${app.plan.job.worker.enabled:true}")
+	private boolean enabled;
+
+	@Value("${app.plan.job.worker.threads:8}")
+	private int threads;
+
+	// 대기열이 비어 있을 때 다시 확인하기까지 쉬는 시간
+	@Value("${app.plan.job.worker.idle-poll-millis:500}")
+	private long idlePollMillis;
+
+	// 작업 처리 기한 (AI 응답 대기와 재시도를 포함한 최대 처리 시간보다 길게)
+	@Value("${app.plan.job.worker.lease-millis:180000}")
+	private long leaseMillis;
+
+	private final List<Thread> workers = new ArrayList<>();
+	private volatile boolean running;
+
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		running = true;
+		for (int i = 0; i < threads; i++) {
+			workers.add(Thread.ofVirtual().name("plan-job-worker-" + i).start(this::poll));
+		}
+		log.info("일정 생성 워커 시작: threads={}", threads);
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		workers.forEach(Thread::interrupt);
+		workers.clear();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * 처리 기한이 지난 작업을 대기열로 되돌림 (처리 중 중단된 서버의 작업 복구)
+	 */
+	@Scheduled(fixedDelayString = "${app.plan.job.worker.reap-interval-millis:30000}")
+	public void requeueExpired() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			int requeued = planJobStore.requeueExpired(REAP_BATCH_SIZE);
+			if (requeued > 0) {
+				meterRegistry.counter("plan.jobs.requeued.expired").increment(requeued);
+				log.warn("처리 기한이 지난 일정 생성 작업 재등록: count={}", requeued);
+			}
+		} catch (Exception e) {
+			log.warn("처리 기한이 지난 작업 재등록 실패: error={}", e.getMessage());
+		}
+	}
+
+	private void poll() {
+		while (running) {
+			try {
+				String jobId = planJobStore.poll(leaseMillis);
+				if (jobId == null) {
+					pause(Duration.ofMillis(idlePollMillis));
+					continue;
+				}
+				process(jobId);
+			} catch (Exception e) {
+				if (!running) {
+					return;
+				}
+				log.warn("일정 생성 작업 대기열 조회 실패: error={}", e.getMessage());
+				pause(Duration.ofSeconds(1));
+			}
+		}
+	}
+
+	private void process(String jobId) {
+		PlanJob job = planJobStore.find(jobId);
+		if (job == null || job.getStatus().isFinished()) {
+			// 대기 중 만료되었거나 이미 처리된 작업
+			return;
+		}
+
+		planJobStore.markRunning(jobId);
+		try {
+			// 가상 스레드이므로 응답을 기다리며 블로킹해도 플랫폼 스레드를 점유하지 않음
+			JsonNode result = planInfoService.handlePlanInfo(job.toRequest()).block();
+			if (result == null || result.has("error")) {
+				String error = result != null ? result.path("error").asText() : "AI 응답이 비어 있습니다.";
+				planJobStore.complete(jobId, PlanJobStatus.FAILED,
+						result != null ? result.toString() : null, error);
+				meterRegistry.counter("plan.jobs", "result", "failed").increment();
+				return;
+			}
+			planJobStore.complete(jobId, PlanJobStatus.DONE, result.toString(), null);
+			meterRegistry.counter("plan.jobs", "result", "done").increment();
+		} catch (ServiceOverloadedException e) {
+			// AI 호출 한도가 찼으면 작업을 되돌려 두고 잠시 쉼
+			planJobStore.requeue(jobId);
+			pause(Duration.ofSeconds(e.getRetryAfterSeconds()));
+		} catch (Exception e) {
+			log.warn("일정 생성 작업 실패: jobId={}, error={}", jobId, e.getMessage());
+			planJobStore.complete(jobId, PlanJobStatus.FAILED, null, e.getMessage());
+			meterRegistry.counter("plan.jobs", "result", "failed").increment();
+		}
+	}
+
+	private void pause(Duration duration) {
+		try {
+			Thread.sleep(duration);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
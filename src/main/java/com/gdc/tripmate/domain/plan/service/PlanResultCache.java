@@ -0,0 +1,208 @@
+package com.gdc.tripmate.domain.plan.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gdc.tripmate.domain.plan.dto.CachedPlan;
+import com.gdc.tripmate.domain.plan.dto.PlanInfoRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * AI 일정 생성 결과 캐시 (도시, 시작일, 종료일) 정규화 키로 Redis에 저장
+ * <p>
+ * 신선 기간이 지난 결과도 유효 기간까지는 바로 응답하고(stale-while-revalidate), 재생성은 잠금을 얻은 한 요청만 수행 전체 항목 수는
+ * 생성 시각을 점수로 하는 Sorted Set으로 관리하여 상한을 넘으면 오래된 결과부터 제거
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlanResultCache {
+
+	private static final String PLAN_KEY_PREFIX = "PLAN:";
+	private static final String PLAN_INDEX_KEY = "PLAN_INDEX";
+	private static final String REFRESH_LOCK_KEY_PREFIX = "PLAN_REFRESH_LOCK:";
+
+	private static final String BODY_FIELD = "body";
+	private static final String CREATED_AT_FIELD = "createdAt";
+
+	// KEYS[1]=PLAN:<key>, KEYS[2]=PLAN_INDEX
+	// ARGV[1]=결과 JSON, ARGV[2]=생성 시각(ms), ARGV[3]=유효 기간(ms), ARGV[4]=최대 항목 수
+	private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+			"redis.call('HSET', KEYS[1], 'body', ARGV[1], 'createdAt', ARGV[2]) "
+					+ "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+					// 유효 기간이 지나 이미 만료된 항목 정리
+					+ "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', "
+					+ "tonumber(ARGV[2]) - tonumber(ARGV[3])) "
+					+ "redis.call('ZADD', KEYS[2], ARGV[2], KEYS[1]) "
+					// 최대 항목 수를 넘으면 가장 오래된 결과부터 제거
+					+ "local overflow = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[4]) "
+					+ "if overflow > 0 then "
+					+ "  local evicted = redis.call('ZRANGE', KEYS[2], 0, overflow - 1) "
+					+ "  redis.call('ZREMRANGEBYRANK', KEYS[2], 0, overflow - 1) "
+					+ "  for _, key in ipairs(evicted) do redis.call('UNLINK', key) end "
+					+ "  return #evicted "
+					+ "end "
+					+ "return 0",
+			Long.class);
+
+	private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${app.plan.cache.enabled:true}")
+	private boolean enabled;
+
+	// 이 기간 안의 결과는 그대로 응답
+	@Value("${app.plan.cache.fresh-ttl-seconds:21600}")
+	private long freshTtlSeconds;
+
+	// 신선 기간 이후 추가로 보관하며 재생성 동안 응답에 사용하는 기간
+	@Value("${app.plan.cache.stale-ttl-seconds:86400}")
+	private long staleTtlSeconds;
+
+	@Value("${app.plan.cache.max-entries:5000}")
+	private int maxEntries;
+
+	@Value("${app.plan.cache.refresh-lock-seconds:120}")
+	private long refreshLockSeconds;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 캐시된 결과 조회 Redis 장애 시에는 캐시 없이 진행하도록 빈 결과 반환
+	 */
+	public Mono<CachedPlan> get(String key) {
+		return find(key)
+				.doOnNext(cached -> record(cached.isStale() ? "stale" : "hit"))
+				.switchIfEmpty(Mono.fromRunnable(() -> record("miss")));
+	}
+
+	/**
+	 * 적중률 집계 없이 조회 (장애 시 대체 응답용)
+	 */
+	public Mono<CachedPlan> find(String key) {
+		return reactiveRedisTemplate.<String, String>opsForHash()
+				.multiGet(PLAN_KEY_PREFIX + key, List.of(BODY_FIELD, CREATED_AT_FIELD))
+				.flatMap(values -> Mono.justOrEmpty(toCachedPlan(values)))
+				.onErrorResume(e -> {
+					log.warn("일정 캐시 조회 실패: key={}, error={}", key, e.getMessage());
+					return Mono.empty();
+				});
+	}
+
+	/**
+	 * 생성 결과 저장 AI 서버가 돌려준 에러 응답은 저장하지 않음
+	 */
+	public Mono<Void> put(String key, JsonNode plan) {
+		if (plan == null || plan.has("error")) {
+			return Mono.empty();
+		}
+
+		String body;
+		try {
+			body = objectMapper.writeValueAsString(plan);
+		} catch (JsonProcessingException e) {
+			return Mono.empty();
+		}
+
+		long ttlMillis = Duration.ofSeconds(freshTtlSeconds + staleTtlSeconds).toMillis();
+		return reactiveRedisTemplate.execute(PUT_SCRIPT,
+						List.of(PLAN_KEY_PREFIX + key, PLAN_INDEX_KEY),
+						List.of(body, String.valueOf(System.currentTimeMillis()),
+								String.valueOf(ttlMillis), String.valueOf(maxEntries)))
+				.doOnNext(evicted -> {
+					if (evicted > 0) {
+						meterRegistry.counter("plan.cache.evictions").increment(evicted);
+					}
+				})
+				.then()
+				.onErrorResume(e -> {
+					log.warn("일정 캐시 저장 실패: key={}, error={}", key, e.getMessage());
+					return Mono.empty();
+				});
+	}
+
+	/**
+	 * 재생성 잠금 획득 여러 서버/요청이 같은 오래된 결과를 동시에 재생성하지 않도록 함
+	 */
+	public Mono<Boolean> tryLockRefresh(String key) {
+		return reactiveRedisTemplate.opsForValue()
+				.setIfAbsent(REFRESH_LOCK_KEY_PREFIX + key, "1", Duration.ofSeconds(refreshLockSeconds))
+				.map(Boolean.TRUE::equals)
+				.onErrorReturn(false);
+	}
+
+	public Mono<Void> unlockRefresh(String key) {
+		return reactiveRedisTemplate.delete(REFRESH_LOCK_KEY_PREFIX + key)
+				.then()
+				.onErrorResume(e -> Mono.empty());
+	}
+
+	/**
+	 * 캐시 키 생성 도시명은 유니코드 정규화, 공백 정리, 소문자 변환 날짜는 ISO 형식으로 통일
+	 */
+	public String keyOf(PlanInfoRequest request) {
+		return normalizeCity(request.getCity()) + ":" + normalizeDate(request.getStartDate()) + ":"
+				+ normalizeDate(request.getEndDate());
+	}
+
+	private CachedPlan toCachedPlan(List<String> values) {
+		String body = values.get(0);
+		String createdAt = values.get(1);
+		if (body == null || createdAt == null) {
+			return null;
+		}
+
+		try {
+			long createdAtMillis = Long.parseLong(createdAt);
+			boolean stale = System.currentTimeMillis() - createdAtMillis
+					> Duration.ofSeconds(freshTtlSeconds).toMillis();
+			return new CachedPlan(objectMapper.readTree(body), createdAtMillis, stale);
+		} catch (JsonProcessingException | NumberFormatException e) {
+			log.warn("일정 캐시 항목 손상: error={}", e.getMessage());
+			return null;
+		}
+	}
+
+	private void record(String result) {
+		meterRegistry.counter("plan.cache.requests", "result", result).increment();
+	}
+
+	private String normalizeCity(String city) {
+		if (city == null) {
+			return "";
+		}
+		return Normalizer.normalize(city, Normalizer.Form.NFKC)
+				.trim()
+				.replaceAll("\\s+", " ")
+				.toLowerCase(Locale.ROOT);
+	}
+
+	private String normalizeDate(String date) {
+		if (date == null) {
+			return "";
+		}
+		String trimmed = date.trim();
+		try {
+			return LocalDate.parse(trimmed).toString();
+		} catch (DateTimeParseException e) {
+			return trimmed;
+		}
+	}
+}
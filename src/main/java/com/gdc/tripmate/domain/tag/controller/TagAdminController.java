@@ -1,6 +1,8 @@
 package com.gdc.tripmate.domain.tag.controller;
 
 import com.gdc.tripmate.domain.tag.dto.request.TagDto;
+import com.gdc.tripmate.domain.tag.dto.response.TagMergeResponse;
+import com.gdc.tripmate.domain.tag.service.TagMergeService;
 import com.gdc.tripmate.domain.tag.service.TagService;
 import com.gdc.tripmate.global.error.ErrorResponse;
 import java.util.List;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 
@@ -30,6 +33,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class TagAdminController {
 
 	private final TagService tagService;
+	private final TagMergeService tagMergeService;
 
 	/**
 	 * 모든 태그 조회 API
@@ -133,4 +137,26 @@ public class TagAdminController {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 중복 태그 병합 API (dryRun=true 면 병합 대상만 조회)
+	 */
+	@PostMapping("/merge")
+	public ResponseEntity<?> mergeTags(@RequestParam(defaultValue = "false") boolean dryRun) {
+		try {
+			log.info("태그 병합 요청: dryRun={}", dryRun);
+			TagMergeResponse response = tagMergeService.merge(dryRun);
+			log.info("태그 병합 완료: 대표 태그 {} 개, 병합된 태그 {} 개", response.getMerges().size(),
+					response.getMergedTags());
+			return ResponseEntity.ok(response);
+		} catch (Exception e) {
+			log.error("태그 병합 중 오류 발생: {}", e.getMessage());
+			ErrorResponse errorResponse = ErrorResponse.builder()
+					.status(HttpStatus.INTERNAL_SERVER_ERROR.value())
+					.message("태그 병합 중 오류가 발생했습니다.")
+					.detail(e.getMessage())
+					.build();
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package com.gdc.tripmate.domain.tag.controller;
 
+import com.gdc.tripmate.domain.tag.dto.request.TagDto;
+import com.gdc.tripmate.domain.tag.dto.response.PopularTagResponse;
 import com.gdc.tripmate.domain.tag.service.TagService;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -40,4 +43,25 @@ public class TagController {
 		List<String> categoryTags = allTags.getOrDefault(category.toUpperCase(), List.of());
 		return ResponseEntity.ok(categoryTags);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 인기 태그 목록 조회 API (category 지정 시 카테고리 내 순위)
+	 */
+	@GetMapping("/tags/popular")
+	public ResponseEntity<List<PopularTagResponse>> getPopularTags(
+			@RequestParam(required = false) String category,
+			@RequestParam(defaultValue = "20") int limit) {
+		int size = Math.max(1, Math.min(limit, 100));
+		return ResponseEntity.ok(tagService.getPopularTags(category, size));
+	}
+
+	/**
+	 * 태그 자동완성 검색 API (접두사, 초성, 오타 허용)
+	 */
+	@GetMapping("/tags/search")
+	public ResponseEntity<List<TagDto>> searchTags(@RequestParam String q,
+			@RequestParam(defaultValue = "10") int limit) {
+		int size = Math.max(1, Math.min(limit, 50));
+		return ResponseEntity.ok(tagService.searchTags(q, size));
+	}
+}
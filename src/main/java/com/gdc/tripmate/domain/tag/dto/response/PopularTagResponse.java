@@ -0,0 +1,13 @@
+package com.gdc.tripmate.domain.tag.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PopularTagResponse {
+
+	private String name;
+	private String category;
+	private long count;
+}
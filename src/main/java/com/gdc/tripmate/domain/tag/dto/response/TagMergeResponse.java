@@ -0,0 +1,18 @@
+package com.gdc.tripmate.domain.tag.dto.response;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TagMergeResponse {
+
+	// true 면 병합 대상만 계산하고 변경하지 않음
+	private boolean dryRun;
+	// 삭제(병합)된 중복 태그 수
+	private int mergedTags;
+	// 대표 태그 이름 → 병합된 중복 태그 이름 목록
+	private Map<String, List<String>> merges;
+}
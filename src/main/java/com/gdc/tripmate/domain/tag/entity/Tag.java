@@ -43,4 +43,15 @@ public class Tag extends TimeStamp {
         this.name = name;
         this.category = "DEFAULT";
     }
-}
\ No newline at end of file
+
+    /**
+     * 서비스 메소드 - 외부에서 엔티티를 수정할 메소드를 정의합니다.
+     */
+    public void rename(String name) {
+        this.name = name;
+    }
+
+    public void changeCategory(String category) {
+        this.category = category;
+    }
+}
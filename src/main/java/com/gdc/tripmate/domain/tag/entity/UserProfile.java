@@ -9,8 +9,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 사용자 프로필(UserProfile) 엔티티 - 프로필 정보 중심
@@ -21,6 +24,9 @@ import java.util.Set;
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
 public class UserProfile extends TimeStamp {
 
+    // 허용하는 성별 값 (소문자로 저장, 매칭 필터와 공유)
+    public static final Set<String> GENDERS = Set.of("male", "female", "other");
+
     /**
      * 컬럼 - 연관관계 컬럼을 제외한 컬럼을 정의합니다.
      */
@@ -65,7 +71,7 @@ public class UserProfile extends TimeStamp {
     public UserProfile(String nickname, String bio, String gender, LocalDate birthDate, User user) {
         this.nickname = nickname;
         this.bio = bio;
-        this.gender = gender;
+        this.gender = normalizeGender(gender);
         this.birthDate = birthDate;
         this.profileCompleted = false;
         setUser(user);
@@ -83,7 +89,7 @@ public class UserProfile extends TimeStamp {
     }
 
     public void setGender(String gender) {
-        this.gender = gender;
+        this.gender = normalizeGender(gender);
     }
 
     public void setBirthDate(LocalDate birthDate) {
@@ -94,6 +100,20 @@ public class UserProfile extends TimeStamp {
         this.profileCompleted = profileCompleted;
     }
 
+    /**
+     * 성별 값 정규화 - 공백 제거 후 소문자로 맞추고, 빈 값은 null, 허용하지 않는 값은 거절
+     */
+    public static String normalizeGender(String gender) {
+        if (gender == null || gender.isBlank()) {
+            return null;
+        }
+        String normalized = gender.trim().toLowerCase(Locale.ROOT);
+        if (!GENDERS.contains(normalized)) {
+            throw new IllegalArgumentException("지원하지 않는 성별입니다: " + gender);
+        }
+        return normalized;
+    }
+
     /**
      * 연관관계 편의 메소드
      */
@@ -112,4 +132,28 @@ public class UserProfile extends TimeStamp {
     public void removeTags() {
         this.profileTags.clear();
     }
+
+    /**
+     * 연결된 태그 ID 목록
+     */
+    public Set<Long> tagIds() {
+        return this.profileTags.stream()
+                .map(profileTag -> profileTag.getTag().getId())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 태그 목록을 주어진 태그와 동일하게 맞춤 - 빠진 태그만 삭제하고 새 태그만 추가 (변경 없는 행은 그대로 유지)
+     */
+    public void syncTags(Collection<Tag> tags) {
+        Set<Long> targetIds = tags.stream()
+                .map(Tag::getId)
+                .collect(Collectors.toSet());
+
+        // 제거된 태그 - orphanRemoval 로 해당 행만 DELETE
+        this.profileTags.removeIf(profileTag -> !targetIds.contains(profileTag.getTag().getId()));
+
+        // 추가된 태그 - 이미 연결된 태그는 equals 로 걸러져 INSERT 되지 않음
+        tags.forEach(this::addTag);
+    }
 }
\ No newline at end of file
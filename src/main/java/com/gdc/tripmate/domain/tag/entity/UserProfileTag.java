@@ -6,6 +6,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Objects;
+
 @Entity
 @Table(name = "user_profile_tags", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"profile_id", "tag_id"})
@@ -39,4 +41,32 @@ public class UserProfileTag extends TimeStamp {
         this.userProfile = userProfile;
         this.tag = tag;
     }
+
+    /**
+     * 동일성 - 같은 프로필에 연결된 같은 태그면 같은 행으로 취급 (profile_id, tag_id 유니크 제약과 동일한 기준)
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UserProfileTag other)) {
+            return false;
+        }
+        Long tagId = tagId();
+        return tagId != null
+                && userProfile == other.userProfile
+                && tagId.equals(other.tagId());
+    }
+
+    @Override
+    public int hashCode() {
+        // 저장 전후로 바뀌지 않는 태그 ID 기준 (자체 ID는 INSERT 시점에 채워지므로 사용하지 않음)
+        return Objects.hashCode(tagId());
+    }
+
+    private Long tagId() {
+        // 지연 로딩 프록시도 초기화 없이 ID 조회 가능
+        return tag != null ? tag.getId() : null;
+    }
 }
\ No newline at end of file
@@ -3,8 +3,10 @@ package com.gdc.tripmate.domain.tag.repository;
 import com.gdc.tripmate.domain.tag.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,10 +14,18 @@ import java.util.Optional;
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByName(String name);
     boolean existsByName(String name);
+
+    List<Tag> findAllByNameIn(Collection<String> names);
+
+    /**
+     * 없는 태그를 한 번의 문장으로 일괄 생성하고 새로 생성된 태그만 반환 (동시에 생성된 이름은 건너뜀)
+     */
+    @Query(value = "INSERT INTO tags (name, category, created_at, updated_at) "
+            + "SELECT name, 'DEFAULT', now(), now() FROM unnest(cast(:names AS text[])) AS name "
+            + "ON CONFLICT (name) DO NOTHING "
+            + "RETURNING *", nativeQuery = true)
+    List<Tag> insertIgnoringExisting(@Param("names") String[] names);
     
     @Query("SELECT t FROM Tag t WHERE t.category = :category")
     List<Tag> findAllByCategory(String category);
-    
-    @Query("SELECT t FROM Tag t JOIN UserTag ut ON t.id = ut.tag.id GROUP BY t.id ORDER BY COUNT(ut.id) DESC LIMIT 50")
-    List<Tag> findMostPopularTags();
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.gdc.tripmate.domain.tag.repository;
 
 import com.gdc.tripmate.domain.tag.entity.UserProfile;
+import com.gdc.tripmate.domain.user.status.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +16,16 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, Long>
     Optional<UserProfile> findByUserId(Long userId);
     Optional<UserProfile> findByNickname(String nickname);
     boolean existsByNickname(String nickname);
+
+    /**
+     * 매칭 대상 프로필 속성 조회 (완성된 프로필, 제외 상태가 아닌 사용자) - [profileId, userId, nickname, gender, birthDate]
+     */
+    @Query("SELECT p.id, u.id, p.nickname, p.gender, p.birthDate FROM UserProfile p JOIN p.user u "
+            + "WHERE p.profileCompleted = true AND u.status NOT IN :excluded")
+    List<Object[]> findMatchAttributes(@Param("excluded") Collection<Status> excluded);
+
+    @Query("SELECT p.id, u.id, p.nickname, p.gender, p.birthDate FROM UserProfile p JOIN p.user u "
+            + "WHERE p.id = :profileId AND p.profileCompleted = true AND u.status NOT IN :excluded")
+    List<Object[]> findMatchAttributesById(@Param("profileId") Long profileId,
+            @Param("excluded") Collection<Status> excluded);
 }
\ No newline at end of file
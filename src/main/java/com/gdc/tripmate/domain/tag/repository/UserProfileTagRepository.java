@@ -4,8 +4,10 @@ import com.gdc.tripmate.domain.tag.entity.UserProfileTag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,4 +17,33 @@ public interface UserProfileTagRepository extends JpaRepository<UserProfileTag,
     @Modifying
     @Query("DELETE FROM UserProfileTag upt WHERE upt.userProfile.id = :profileId")
     void deleteAllByUserProfileId(Long profileId);
+
+    /**
+     * 태그별 프로필 연결 수 집계 (인기 색인 재생성용) - [tagId, count]
+     */
+    @Query("SELECT upt.tag.id, COUNT(upt) FROM UserProfileTag upt GROUP BY upt.tag.id")
+    List<Object[]> countGroupByTag();
+
+    /**
+     * 전체 프로필-태그 연결 조회 (매칭 색인 생성용) - [profileId, tagId]
+     */
+    @Query("SELECT upt.userProfile.id, upt.tag.id FROM UserProfileTag upt")
+    List<Object[]> findAllProfileTagIds();
+
+    @Query("SELECT upt.tag.id FROM UserProfileTag upt WHERE upt.userProfile.id = :profileId")
+    List<Long> findTagIdsByProfileId(@Param("profileId") Long profileId);
+
+    /**
+     * 중복 태그에 연결된 프로필을 대표 태그에도 연결 (이미 연결된 프로필은 건너뜀)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_profile_tags (profile_id, tag_id, created_at, updated_at) "
+            + "SELECT DISTINCT profile_id, :canonicalId, now(), now() FROM user_profile_tags "
+            + "WHERE tag_id IN (:duplicateIds) "
+            + "ON CONFLICT (profile_id, tag_id) DO NOTHING", nativeQuery = true)
+    int copyToTag(@Param("duplicateIds") Collection<Long> duplicateIds, @Param("canonicalId") Long canonicalId);
+
+    @Modifying
+    @Query("DELETE FROM UserProfileTag upt WHERE upt.tag.id IN :tagIds")
+    int deleteAllByTagIdIn(@Param("tagIds") Collection<Long> tagIds);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.gdc.tripmate.domain.tag.repository;
+
+import com.gdc.tripmate.domain.tag.entity.UserTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface UserTagRepository extends JpaRepository<UserTag, Long> {
+
+    /**
+     * 중복 태그에 연결된 사용자를 대표 태그에도 연결 (이미 연결된 사용자는 건너뜀)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_tags (user_id, tag_id, created_at, updated_at) "
+            + "SELECT DISTINCT user_id, :canonicalId, now(), now() FROM user_tags "
+            + "WHERE tag_id IN (:duplicateIds) "
+            + "ON CONFLICT (user_id, tag_id) DO NOTHING", nativeQuery = true)
+    int copyToTag(@Param("duplicateIds") Collection<Long> duplicateIds, @Param("canonicalId") Long canonicalId);
+
+    @Modifying
+    @Query("DELETE FROM UserTag ut WHERE ut.tag.id IN :tagIds")
+    int deleteAllByTagIdIn(@Param("tagIds") Collection<Long> tagIds);
+}
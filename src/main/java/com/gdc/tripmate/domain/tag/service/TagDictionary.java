@@ -0,0 +1,259 @@
+package com.gdc.tripmate.domain.tag.service;
+
+import com.gdc.tripmate.domain.tag.entity.Tag;
+import com.gdc.tripmate.domain.tag.repository.TagRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 태그 사전 - 전체 태그를 불변 스냅샷으로 메모리에 보관하고, 변경 시 스냅샷을 통째로 교체
+ * <p>
+ * 태그가 바뀌면 Redis 버전 키를 올리고, 각 서버는 주기적으로 버전을 비교해 다르면 다시 적재
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagDictionary {
+
+	private static final String VERSION_KEY = "TAG_DICT_VERSION";
+
+	private final TagRepository tagRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final MeterRegistry meterRegistry;
+
+	private final AtomicReference<Snapshot> current = new AtomicReference<>();
+	private final List<ReloadListener> listeners = new CopyOnWriteArrayList<>();
+	// 적재 직렬화 - DB 조회 중 대기하므로 synchronized 대신 사용 (가상 스레드 캐리어 고정 방지)
+	private final ReentrantLock reloadLock = new ReentrantLock();
+
+	@PostConstruct
+	public void init() {
+		meterRegistry.gauge("tag.dictionary.size", current,
+				ref -> ref.get() != null ? ref.get().size() : 0);
+	}
+
+	/**
+	 * 애플리케이션 시작 후 최초 적재 (data.sql 초기 데이터 반영 이후)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		reload(readVersion());
+	}
+
+	/**
+	 * 스냅샷 교체 리스너 등록 (검색 색인 등 파생 색인의 증분 갱신용)
+	 */
+	public void addListener(ReloadListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * 현재 스냅샷 조회 - 아직 적재 전이면 즉시 적재
+	 */
+	public Snapshot snapshot() {
+		Snapshot snapshot = current.get();
+		if (snapshot == null) {
+			snapshot = reload(readVersion());
+		}
+		return snapshot;
+	}
+
+	/**
+	 * 태그 변경 후 호출 - 트랜잭션 커밋 이후 버전을 올리고 이 서버의 스냅샷을 즉시 교체
+	 */
+	public void refreshAfterCommit() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			refresh();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				refresh();
+			}
+		});
+	}
+
+	/**
+	 * 다른 서버의 변경 확인 - Redis 버전이 현재 스냅샷과 다르면 다시 적재
+	 */
+	@Scheduled(fixedDelayString = "${app.tag.dictionary.version-check-millis:5000}",
+			initialDelayString = "${app.tag.dictionary.version-check-millis:5000}")
+	public void checkVersion() {
+		Snapshot snapshot = current.get();
+		long version = readVersion();
+		if (snapshot == null || snapshot.version() != version) {
+			reload(version);
+		}
+	}
+
+	private void refresh() {
+		long version;
+		try {
+			Long incremented = redisTemplate.opsForValue().increment(VERSION_KEY);
+			version = incremented != null ? incremented : 0L;
+		} catch (Exception e) {
+			// Redis 장애 시 이 서버만 갱신, 다른 서버는 Redis 복구 후 버전 비교로 따라옴
+			log.warn("태그 사전 버전 갱신 실패: {}", e.getMessage());
+			version = -1L;
+		}
+		reload(version);
+	}
+
+	private long readVersion() {
+		try {
+			String value = redisTemplate.opsForValue().get(VERSION_KEY);
+			return value != null ? Long.parseLong(value) : 0L;
+		} catch (Exception e) {
+			log.warn("태그 사전 버전 조회 실패: {}", e.getMessage());
+			Snapshot snapshot = current.get();
+			return snapshot != null ? snapshot.version() : -1L;
+		}
+	}
+
+	/**
+	 * DB에서 전체 태그를 읽어 새 스냅샷으로 교체 (버전은 조회 전에 읽은 값을 사용해 중간 변경을 놓치지 않음)
+	 */
+	private Snapshot reload(long version) {
+		reloadLock.lock();
+		try {
+			Snapshot snapshot = new Snapshot(version, tagRepository.findAll());
+			Snapshot previous = current.getAndSet(snapshot);
+			for (ReloadListener listener : listeners) {
+				try {
+					listener.onReload(previous, snapshot);
+				} catch (Exception e) {
+					log.error("태그 사전 리스너 처리 실패: {}", e.getMessage(), e);
+				}
+			}
+			meterRegistry.counter("tag.dictionary.reloads").increment();
+			log.info("태그 사전 적재: version={}, 태그 {} 개", version, snapshot.size());
+			return snapshot;
+		} finally {
+			reloadLock.unlock();
+		}
+	}
+
+	/**
+	 * 스냅샷 교체 알림 (최초 적재 시 previous 는 null)
+	 */
+	public interface ReloadListener {
+
+		void onReload(Snapshot previous, Snapshot current);
+	}
+
+	/**
+	 * 태그 사전 항목 (영속성 컨텍스트와 무관한 값 객체)
+	 */
+	public record Entry(Long id, String name, String category) {
+
+	}
+
+	/**
+	 * 불변 태그 스냅샷 - 이름/ID 조회, 카테고리 색인, 카테고리별 응답을 미리 계산해 보관
+	 */
+	public static final class Snapshot {
+
+		private final long version;
+		private final List<Entry> entries;
+		private final Map<Long, Entry> byId;
+		private final Map<String, Entry> byName;
+		private final Map<String, Entry> byKey;
+		private final Map<String, List<Entry>> byCategory;
+		private final Map<String, List<String>> categorized;
+
+		Snapshot(long version, List<Tag> tags) {
+			this.version = version;
+
+			Map<Long, Entry> ids = new LinkedHashMap<>();
+			Map<String, Entry> names = new LinkedHashMap<>();
+			Map<String, Entry> keys = new LinkedHashMap<>();
+			Map<String, List<Entry>> categories = new LinkedHashMap<>();
+			tags.stream()
+					.sorted(Comparator.comparing(Tag::getId))
+					.map(tag -> new Entry(tag.getId(), tag.getName(), tag.getCategory()))
+					.forEach(entry -> {
+						ids.put(entry.id(), entry);
+						names.put(entry.name(), entry);
+						// 정규화 키가 같은 태그가 여럿이면 먼저 생성된 태그가 대표
+						keys.putIfAbsent(TagNormalizer.key(entry.name()), entry);
+						categories.computeIfAbsent(entry.category(), key -> new ArrayList<>()).add(entry);
+					});
+
+			Map<String, List<String>> response = new LinkedHashMap<>();
+			categories.forEach((category, entries) -> response.put(category,
+					entries.stream().map(Entry::name).toList()));
+			categories.replaceAll((category, entries) -> List.copyOf(entries));
+
+			this.entries = List.copyOf(ids.values());
+			this.byId = Collections.unmodifiableMap(ids);
+			this.byName = Collections.unmodifiableMap(names);
+			this.byKey = Collections.unmodifiableMap(keys);
+			this.byCategory = Collections.unmodifiableMap(categories);
+			this.categorized = Collections.unmodifiableMap(response);
+		}
+
+		public long version() {
+			return version;
+		}
+
+		public int size() {
+			return entries.size();
+		}
+
+		public Optional<Entry> findById(Long id) {
+			return Optional.ofNullable(byId.get(id));
+		}
+
+		public Optional<Entry> findByName(String name) {
+			return Optional.ofNullable(byName.get(name));
+		}
+
+		/**
+		 * 정규화 키(대소문자, 공백, 호환 문자 차이 무시)로 조회
+		 */
+		public Optional<Entry> findByKey(String key) {
+			return Optional.ofNullable(byKey.get(key));
+		}
+
+		public List<Entry> entries() {
+			return entries;
+		}
+
+		public Set<String> categories() {
+			return byCategory.keySet();
+		}
+
+		public List<Entry> category(String category) {
+			return byCategory.getOrDefault(category, List.of());
+		}
+
+		/**
+		 * 카테고리별 태그 이름 목록 (/api/tags 응답 그대로 사용)
+		 */
+		public Map<String, List<String>> categorized() {
+			return categorized;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.gdc.tripmate.domain.tag.service;
+
+import com.gdc.tripmate.domain.match.service.MatchIndexManager;
+import com.gdc.tripmate.domain.tag.dto.response.TagMergeResponse;
+import com.gdc.tripmate.domain.tag.entity.Tag;
+import com.gdc.tripmate.domain.tag.repository.TagRepository;
+import com.gdc.tripmate.domain.tag.repository.UserProfileTagRepository;
+import com.gdc.tripmate.domain.tag.repository.UserTagRepository;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 중복 태그 병합 - 정규화 키(동의어 포함)가 같은 태그를 대표 태그 하나로 합치고 나머지는 삭제
+ * <p>
+ * 중복 태그의 프로필/사용자 연결을 대표 태그로 옮긴 뒤 태그 사전, 인기 색인, 프로필 캐시, 매칭 색인을 갱신
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TagMergeService {
+
+	// 기본(사용자 생성) 카테고리 - 대표 태그 선정 시 운영자가 분류한 태그를 우선
+	private static final String DEFAULT_CATEGORY = "DEFAULT";
+
+	private final TagRepository tagRepository;
+	private final UserProfileTagRepository userProfileTagRepository;
+	private final UserTagRepository userTagRepository;
+	private final TagNormalizer tagNormalizer;
+	private final TagDictionary tagDictionary;
+	private final TagPopularityIndex tagPopularityIndex;
+	private final CacheManager cacheManager;
+	private final MatchIndexManager matchIndexManager;
+
+	/**
+	 * 중복 태그 병합 실행 (dryRun 이면 병합 대상만 반환)
+	 */
+	@Transactional
+	public TagMergeResponse merge(boolean dryRun) {
+		Map<String, List<Tag>> groups = tagRepository.findAll().stream()
+				.filter(tag -> tagNormalizer.canonicalKey(tag.getName()) != null)
+				.collect(Collectors.groupingBy(tag -> tagNormalizer.canonicalKey(tag.getName()),
+						LinkedHashMap::new, Collectors.toList()));
+
+		Map<String, List<String>> merges = new LinkedHashMap<>();
+		int mergedTags = 0;
+		for (List<Tag> group : groups.values()) {
+			if (group.size() < 2) {
+				continue;
+			}
+
+			// 운영자가 분류한 태그 → 먼저 생성된 태그 순으로 대표 선정
+			Tag canonical = group.stream()
+					.min(Comparator.comparing((Tag tag) -> DEFAULT_CATEGORY.equals(tag.getCategory()))
+							.thenComparing(Tag::getId))
+					.orElseThrow();
+			List<Tag> duplicates = group.stream()
+					.filter(tag -> !Objects.equals(tag.getId(), canonical.getId()))
+					.toList();
+			List<Long> duplicateIds = duplicates.stream().map(Tag::getId).toList();
+
+			merges.put(canonical.getName(), duplicates.stream().map(Tag::getName).toList());
+			mergedTags += duplicates.size();
+			if (dryRun) {
+				continue;
+			}
+
+			int profiles = userProfileTagRepository.copyToTag(duplicateIds, canonical.getId());
+			userProfileTagRepository.deleteAllByTagIdIn(duplicateIds);
+			userTagRepository.copyToTag(duplicateIds, canonical.getId());
+			userTagRepository.deleteAllByTagIdIn(duplicateIds);
+			tagRepository.deleteAllByIdInBatch(duplicateIds);
+			// 재생성이 다른 서버에서 실행 중이라 건너뛰어도 삭제된 태그가 순위에 남지 않도록
+			tagPopularityIndex.removeAfterCommit(duplicates);
+			log.info("태그 병합: {} ← {} (새로 연결된 프로필 {} 개)", canonical.getName(),
+					merges.get(canonical.getName()), profiles);
+		}
+
+		if (!dryRun && mergedTags > 0) {
+			tagDictionary.refreshAfterCommit();
+			afterCommit(() -> {
+				// 연결 수가 바뀌었으므로 인기 색인을 다시 집계하고, 태그 이름이 담긴 프로필 캐시 비우기
+				tagPopularityIndex.reconcile();
+				// 삭제된 태그 ID가 매칭 색인에 남지 않도록 모든 서버에서 재생성
+				matchIndexManager.requestRebuild();
+				Cache profiles = cacheManager.getCache("profiles");
+				if (profiles != null) {
+					// 커밋 이후 콜백 안이므로 트랜잭션 연동 없이 즉시 비우기
+					profiles.invalidate();
+				}
+			});
+		}
+		return new TagMergeResponse(dryRun, mergedTags, merges);
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,101 @@
+package com.gdc.tripmate.domain.tag.service;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그 이름 정규화 - 조회/생성 전에 표기 차이("Hiking", "hiking ", "하이킹")를 하나의 대표 이름으로 통일
+ * <p>
+ * NFKC 정규화, 앞뒤 공백 제거, 연속 공백 축약 후 대소문자를 무시한 키로 비교하고, 설정된 동의어는 대표 태그로 치환
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagNormalizer {
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private final TagDictionary tagDictionary;
+
+	// 동의어 키 → 대표 태그 이름
+	private final Map<String, String> aliases = new HashMap<>();
+
+	/**
+	 * 동의어 설정 ("동의어=대표 태그" 목록)
+	 */
+	@Value("${app.tag.aliases:}")
+	public void setAliases(List<String> entries) {
+		aliases.clear();
+		for (String entry : entries) {
+			int separator = entry.indexOf('=');
+			if (separator <= 0 || separator == entry.length() - 1) {
+				if (!entry.isBlank()) {
+					log.warn("잘못된 태그 동의어 설정 무시: {}", entry);
+				}
+				continue;
+			}
+			String alias = key(entry.substring(0, separator));
+			String canonical = display(entry.substring(separator + 1));
+			if (!alias.equals(key(canonical))) {
+				aliases.put(alias, canonical);
+			}
+		}
+	}
+
+	/**
+	 * 입력 이름을 저장/조회에 사용할 대표 이름으로 변환 (빈 이름은 null)
+	 * <p>
+	 * 키가 같은 태그가 이미 있으면 그 태그의 이름을, 없으면 정리된 입력 표기를 사용
+	 */
+	public String canonicalName(String name) {
+		String canonical = canonicalDisplay(name);
+		if (canonical == null) {
+			return null;
+		}
+		return tagDictionary.snapshot().findByKey(key(canonical))
+				.map(TagDictionary.Entry::name)
+				.orElse(canonical);
+	}
+
+	/**
+	 * 중복 판단 키 - 동의어까지 반영한 대표 이름의 키 (빈 이름은 null)
+	 */
+	public String canonicalKey(String name) {
+		String canonical = canonicalDisplay(name);
+		return canonical != null ? key(canonical) : null;
+	}
+
+	private String canonicalDisplay(String name) {
+		if (name == null) {
+			return null;
+		}
+		String display = display(name);
+		if (display.isEmpty()) {
+			return null;
+		}
+		return aliases.getOrDefault(key(display), display);
+	}
+
+	/**
+	 * 표기 정리 - NFKC(전각/호환 문자 통일), 앞뒤 공백 제거, 연속 공백 축약
+	 */
+	static String display(String name) {
+		String normalized = Normalizer.normalize(name, Normalizer.Form.NFKC);
+		return WHITESPACE.matcher(normalized.strip()).replaceAll(" ");
+	}
+
+	/**
+	 * 비교 키 - 정리된 표기의 대소문자 무시 형태
+	 */
+	static String key(String name) {
+		return display(name).toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,257 @@
+package com.gdc.tripmate.domain.tag.service;
+
+import com.gdc.tripmate.domain.tag.dto.response.PopularTagResponse;
+import com.gdc.tripmate.domain.tag.entity.Tag;
+import com.gdc.tripmate.domain.tag.repository.UserProfileTagRepository;
+import com.gdc.tripmate.domain.tag.service.TagDictionary.Entry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 태그 인기 순위 색인 - 태그별 프로필 연결 수를 Redis ZSET(전체 + 카테고리별)에 유지
+ * <p>
+ * 프로필 태그가 바뀔 때 커밋 이후 증감분만 반영하고, 주기적으로 user_profile_tags 집계로 다시 맞춤
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagPopularityIndex {
+
+	private static final String POPULARITY_KEY = "TAG_POPULARITY";
+	private static final String CATEGORY_KEY_PREFIX = "TAG_POPULARITY:";
+	private static final String REBUILD_KEY_SUFFIX = ":REBUILD";
+	private static final String RECONCILE_LOCK_KEY = "TAG_POPULARITY_RECONCILE_LOCK";
+
+	// KEYS[1]=잠금 키 / ARGV[1]=잠금 값 - 자신이 건 잠금일 때만 삭제 (조회와 삭제 사이 만료되어 다른 서버가 건 잠금을 지우지 않도록)
+	private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+					+ "return 0",
+			Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final UserProfileTagRepository userProfileTagRepository;
+	private final TagDictionary tagDictionary;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${app.tag.popularity.reconcile-lock-seconds:300}")
+	private long reconcileLockSeconds;
+
+	/**
+	 * 시작 시 색인이 없으면 DB 집계로 생성
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void initIfMissing() {
+		try {
+			if (!Boolean.TRUE.equals(redisTemplate.hasKey(POPULARITY_KEY))) {
+				reconcile();
+			}
+		} catch (Exception e) {
+			log.warn("태그 인기 색인 초기화 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 프로필 태그 변경분 반영 - 변경 전/후 태그 ID를 비교해 커밋 이후 증감
+	 */
+	public void applyAfterCommit(Set<Long> before, Set<Long> after) {
+		Map<Long, Integer> deltas = new HashMap<>();
+		after.stream().filter(id -> !before.contains(id)).forEach(id -> deltas.put(id, 1));
+		before.stream().filter(id -> !after.contains(id)).forEach(id -> deltas.put(id, -1));
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			apply(deltas);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				apply(deltas);
+			}
+		});
+	}
+
+	/**
+	 * 삭제된 태그를 커밋 이후 순위에서 제거 (조회 시 LIMIT 안에 삭제된 태그가 자리를 차지하지 않도록)
+	 */
+	public void removeAfterCommit(List<Tag> tags) {
+		if (tags.isEmpty()) {
+			return;
+		}
+		Map<Long, String> categories = new HashMap<>();
+		tags.forEach(tag -> categories.put(tag.getId(), tag.getCategory()));
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			remove(categories);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				remove(categories);
+			}
+		});
+	}
+
+	/**
+	 * 전체 인기 태그 상위 N개 (ZREVRANGEBYSCORE, O(log n + N))
+	 */
+	public List<PopularTagResponse> top(int limit) {
+		return read(POPULARITY_KEY, limit);
+	}
+
+	/**
+	 * 카테고리 내 인기 태그 상위 N개
+	 */
+	public List<PopularTagResponse> top(String category, int limit) {
+		return read(CATEGORY_KEY_PREFIX + category, limit);
+	}
+
+	/**
+	 * DB 집계로 색인 재생성 - 임시 키에 채운 뒤 RENAME 으로 교체 (여러 서버 중 한 곳만 실행)
+	 * <p>
+	 * 집계와 교체 사이에 반영된 증감분은 다음 재생성에서 맞춰짐
+	 */
+	@Scheduled(cron = "${app.tag.popularity.reconcile-cron:0 0 * * * *}")
+	public void reconcile() {
+		String lockValue = UUID.randomUUID().toString();
+		Boolean locked = redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, lockValue,
+				Duration.ofSeconds(reconcileLockSeconds));
+		if (!Boolean.TRUE.equals(locked)) {
+			return;
+		}
+
+		try {
+			TagDictionary.Snapshot snapshot = tagDictionary.snapshot();
+			Map<String, Map<Long, Long>> counts = new HashMap<>();
+			for (Object[] row : userProfileTagRepository.countGroupByTag()) {
+				Long tagId = (Long) row[0];
+				Long count = (Long) row[1];
+				counts.computeIfAbsent(POPULARITY_KEY, key -> new HashMap<>()).put(tagId, count);
+				snapshot.findById(tagId).ifPresent(entry -> counts
+						.computeIfAbsent(CATEGORY_KEY_PREFIX + entry.category(), key -> new HashMap<>())
+						.put(tagId, count));
+			}
+
+			Set<String> staleKeys = new HashSet<>();
+			staleKeys.add(POPULARITY_KEY);
+			snapshot.categories().forEach(category -> staleKeys.add(CATEGORY_KEY_PREFIX + category));
+			staleKeys.removeAll(counts.keySet());
+
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+					counts.forEach((key, scores) -> {
+						String rebuildKey = key + REBUILD_KEY_SUFFIX;
+						ops.delete(rebuildKey);
+						Set<TypedTuple<String>> tuples = new HashSet<>();
+						scores.forEach((tagId, count) ->
+								tuples.add(TypedTuple.of(tagId.toString(), count.doubleValue())));
+						ops.opsForZSet().add(rebuildKey, tuples);
+						ops.rename(rebuildKey, key);
+					});
+					// 더 이상 연결된 태그가 없는 키 제거
+					staleKeys.forEach(ops::delete);
+					return null;
+				}
+			});
+
+			meterRegistry.counter("tag.popularity.reconciles").increment();
+			log.info("태그 인기 색인 재생성: 카테고리 {} 개", counts.size() - 1);
+		} finally {
+			redisTemplate.execute(UNLOCK_SCRIPT, List.of(RECONCILE_LOCK_KEY), lockValue);
+		}
+	}
+
+	private void apply(Map<Long, Integer> deltas) {
+		TagDictionary.Snapshot snapshot = tagDictionary.snapshot();
+		try {
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+					deltas.forEach((tagId, delta) -> {
+						String member = tagId.toString();
+						ops.opsForZSet().incrementScore(POPULARITY_KEY, member, delta);
+						// 사전에 아직 없는 태그는 카테고리 색인을 재생성 시점에 반영
+						snapshot.findById(tagId).ifPresent(entry -> ops.opsForZSet()
+								.incrementScore(CATEGORY_KEY_PREFIX + entry.category(), member, delta));
+					});
+					return null;
+				}
+			});
+		} catch (Exception e) {
+			// 반영 실패분은 다음 재생성에서 맞춰짐
+			log.warn("태그 인기 색인 반영 실패: {}", e.getMessage());
+		}
+	}
+
+	private void remove(Map<Long, String> categories) {
+		try {
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+					categories.forEach((tagId, category) -> {
+						String member = tagId.toString();
+						ops.opsForZSet().remove(POPULARITY_KEY, member);
+						ops.opsForZSet().remove(CATEGORY_KEY_PREFIX + category, member);
+					});
+					return null;
+				}
+			});
+		} catch (Exception e) {
+			// 제거 실패분은 다음 재생성에서 맞춰짐
+			log.warn("태그 인기 색인 제거 실패: {}", e.getMessage());
+		}
+	}
+
+	private List<PopularTagResponse> read(String key, int limit) {
+		// 점수 0 이하(연결이 모두 해제된 태그)는 제외
+		Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+				.reverseRangeByScoreWithScores(key, 1, Double.POSITIVE_INFINITY, 0, limit);
+		if (tuples == null) {
+			return List.of();
+		}
+
+		TagDictionary.Snapshot snapshot = tagDictionary.snapshot();
+		List<PopularTagResponse> result = new ArrayList<>(tuples.size());
+		for (TypedTuple<String> tuple : tuples) {
+			Optional<Entry> entry = snapshot.findById(Long.valueOf(tuple.getValue()));
+			entry.ifPresent(tag -> result.add(new PopularTagResponse(tag.name(), tag.category(),
+					tuple.getScore().longValue())));
+		}
+		return result;
+	}
+}
@@ -0,0 +1,80 @@
+package com.gdc.tripmate.domain.tag.service;
+
+import com.gdc.tripmate.domain.tag.entity.Tag;
+import com.gdc.tripmate.domain.tag.repository.TagRepository;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 태그 이름 목록을 태그 엔티티로 일괄 변환 조회는 IN 쿼리 한 번, 없는 태그 생성은 INSERT ... ON CONFLICT 한 번으로 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagResolver {
+
+	private final TagRepository tagRepository;
+	private final TagDictionary tagDictionary;
+	private final TagNormalizer tagNormalizer;
+
+	/**
+	 * 대표 이름 → 태그 맵 반환 (요청 순서 유지, 정규화 후 공백/중복 이름 제외)
+	 */
+	@Transactional
+	public Map<String, Tag> resolve(Collection<String> tagNames) {
+		Set<String> names = tagNames.stream()
+				.map(tagNormalizer::canonicalName)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		if (names.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<String, Tag> found = byName(tagRepository.findAllByNameIn(names));
+
+		List<String> missing = names.stream()
+				.filter(name -> !found.containsKey(name))
+				.toList();
+		if (!missing.isEmpty()) {
+			List<Tag> created = tagRepository.insertIgnoringExisting(missing.toArray(String[]::new));
+			found.putAll(byName(created));
+			log.info("새 태그 생성: {}", created.stream().map(Tag::getName).toList());
+			if (!created.isEmpty()) {
+				tagDictionary.refreshAfterCommit();
+			}
+
+			// 조회와 생성 사이에 다른 요청이 만든 태그는 다시 조회
+			List<String> concurrentlyCreated = missing.stream()
+					.filter(name -> !found.containsKey(name))
+					.toList();
+			if (!concurrentlyCreated.isEmpty()) {
+				found.putAll(byName(tagRepository.findAllByNameIn(concurrentlyCreated)));
+			}
+		}
+
+		Map<String, Tag> resolved = new LinkedHashMap<>();
+		for (String name : names) {
+			Tag tag = found.get(name);
+			if (tag != null) {
+				resolved.put(name, tag);
+			}
+		}
+		return resolved;
+	}
+
+	private Map<String, Tag> byName(List<Tag> tags) {
+		return tags.stream().collect(Collectors.toMap(Tag::getName, Function.identity(),
+				(first, second) -> first, LinkedHashMap::new));
+	}
+}
@@ -0,0 +1,267 @@
+package com.gdc.tripmate.domain.tag.service;
+
+import com.gdc.tripmate.domain.tag.dto.request.TagDto;
+import com.gdc.tripmate.domain.tag.service.TagDictionary.Entry;
+import com.gdc.tripmate.domain.tag.service.TagDictionary.Snapshot;
+import com.gdc.tripmate.global.util.HangulJamo;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그 자동완성 색인 - 자모 분해 접두사 트라이, 초성 트라이, 자모 트라이그램 색인을 메모리에 유지
+ * <p>
+ * 태그 사전 스냅샷이 바뀌면 추가/삭제된 태그만 색인에 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagSearchIndex {
+
+	// 오타 허용 검색에서 질의 트라이그램 중 일치해야 하는 최소 비율
+	private static final double MIN_GRAM_MATCH_RATIO = 0.6;
+
+	private final TagDictionary tagDictionary;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<Long, Entry> entries = new HashMap<>();
+	private final Node jamoRoot = new Node();
+	private final Node choseongRoot = new Node();
+	private final Map<String, Set<Long>> trigrams = new HashMap<>();
+
+	private volatile Snapshot indexed;
+
+	@PostConstruct
+	public void init() {
+		tagDictionary.addListener((previous, current) -> sync());
+	}
+
+	/**
+	 * 태그 검색 - 접두사(자모 단위) 일치, 초성 일치, 트라이그램 유사도 순으로 채움
+	 */
+	public List<TagDto> search(String query, int limit) {
+		String normalized = HangulJamo.normalize(query);
+		if (normalized.isEmpty()) {
+			return List.of();
+		}
+		String jamo = HangulJamo.decompose(normalized);
+
+		// 최초 적재는 잠금 밖에서 (적재 중 리스너가 다시 색인 잠금을 얻으므로)
+		if (tagDictionary.snapshot() != indexed) {
+			sync();
+		}
+
+		lock.readLock().lock();
+		try {
+			Set<Long> ids = new LinkedHashSet<>();
+			collectPrefix(jamoRoot, jamo, limit, ids);
+			if (ids.size() < limit && HangulJamo.isChoseongOnly(normalized)) {
+				collectPrefix(choseongRoot, normalized, limit, ids);
+			}
+			if (ids.size() < limit) {
+				collectSimilar(jamo, limit, ids);
+			}
+
+			List<TagDto> result = new ArrayList<>(ids.size());
+			for (Long id : ids) {
+				Entry entry = entries.get(id);
+				result.add(TagDto.builder()
+						.id(entry.id())
+						.name(entry.name())
+						.category(entry.category())
+						.build());
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 사전의 현재 스냅샷과 색인된 스냅샷을 비교해 바뀐 태그만 제거/추가
+	 * <p>
+	 * 비교와 반영을 쓰기 잠금 안에서 처리하고 스냅샷은 잠금 안에서 다시 읽어, 늦게 도착한 이전 스냅샷으로 되돌아가지 않음
+	 */
+	private void sync() {
+		lock.writeLock().lock();
+		try {
+			Snapshot latest = tagDictionary.snapshot();
+			Snapshot previous = indexed;
+			if (latest == previous) {
+				return;
+			}
+
+			List<Entry> removed = new ArrayList<>();
+			List<Entry> added = new ArrayList<>();
+			if (previous != null) {
+				for (Entry entry : previous.entries()) {
+					if (!latest.findById(entry.id()).map(entry::equals).orElse(false)) {
+						removed.add(entry);
+					}
+				}
+			}
+			for (Entry entry : latest.entries()) {
+				if (previous == null || !previous.findById(entry.id()).map(entry::equals).orElse(false)) {
+					added.add(entry);
+				}
+			}
+
+			removed.forEach(this::remove);
+			added.forEach(this::add);
+			indexed = latest;
+			log.debug("태그 검색 색인 갱신: 추가 {} 개, 제거 {} 개", added.size(), removed.size());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void add(Entry entry) {
+		String normalized = HangulJamo.normalize(entry.name());
+		String jamo = HangulJamo.decompose(normalized);
+
+		entries.put(entry.id(), entry);
+		jamoRoot.insert(jamo, entry.id());
+		if (HangulJamo.containsSyllable(normalized)) {
+			choseongRoot.insert(HangulJamo.choseong(normalized), entry.id());
+		}
+		for (String gram : indexGrams(jamo)) {
+			trigrams.computeIfAbsent(gram, key -> new HashSet<>()).add(entry.id());
+		}
+	}
+
+	private void remove(Entry entry) {
+		String normalized = HangulJamo.normalize(entry.name());
+		String jamo = HangulJamo.decompose(normalized);
+
+		entries.remove(entry.id());
+		jamoRoot.remove(jamo, 0, entry.id());
+		if (HangulJamo.containsSyllable(normalized)) {
+			choseongRoot.remove(HangulJamo.choseong(normalized), 0, entry.id());
+		}
+		for (String gram : indexGrams(jamo)) {
+			Set<Long> ids = trigrams.get(gram);
+			if (ids != null && ids.remove(entry.id()) && ids.isEmpty()) {
+				trigrams.remove(gram);
+			}
+		}
+	}
+
+	/**
+	 * 접두사 노드 아래를 너비 우선으로 탐색 (짧은 이름 = 입력과 가까운 태그부터)
+	 */
+	private void collectPrefix(Node root, String prefix, int limit, Set<Long> ids) {
+		Node start = root.find(prefix);
+		if (start == null) {
+			return;
+		}
+
+		Deque<Node> queue = new ArrayDeque<>();
+		queue.add(start);
+		while (!queue.isEmpty() && ids.size() < limit) {
+			Node node = queue.poll();
+			for (Long id : node.ids) {
+				if (ids.size() >= limit) {
+					return;
+				}
+				ids.add(id);
+			}
+			queue.addAll(node.children.values());
+		}
+	}
+
+	/**
+	 * 트라이그램 유사도 검색 (오타, 중간 일치 허용)
+	 */
+	private void collectSimilar(String jamo, int limit, Set<Long> ids) {
+		List<String> grams = queryGrams(jamo);
+		if (grams.isEmpty()) {
+			return;
+		}
+
+		Map<Long, Integer> hits = new HashMap<>();
+		for (String gram : grams) {
+			for (Long id : trigrams.getOrDefault(gram, Set.of())) {
+				hits.merge(id, 1, Integer::sum);
+			}
+		}
+
+		int minHits = (int) Math.ceil(grams.size() * MIN_GRAM_MATCH_RATIO);
+		hits.entrySet().stream()
+				.filter(hit -> hit.getValue() >= minHits && !ids.contains(hit.getKey()))
+				.sorted(Comparator.<Map.Entry<Long, Integer>>comparingInt(Map.Entry::getValue).reversed()
+						.thenComparingInt(hit -> entries.get(hit.getKey()).name().length()))
+				.limit(limit - ids.size())
+				.forEach(hit -> ids.add(hit.getKey()));
+	}
+
+	// 색인 트라이그램 - 시작(^)과 끝($) 경계 포함
+	private static List<String> indexGrams(String jamo) {
+		return grams("^" + jamo + "$");
+	}
+
+	// 질의 트라이그램 - 입력 중이므로 끝 경계는 제외
+	private static List<String> queryGrams(String jamo) {
+		return grams("^" + jamo);
+	}
+
+	private static List<String> grams(String text) {
+		List<String> grams = new ArrayList<>();
+		for (int i = 0; i + 3 <= text.length(); i++) {
+			grams.add(text.substring(i, i + 3));
+		}
+		return grams;
+	}
+
+	/**
+	 * 트라이 노드 - 이 위치에서 끝나는 태그 ID 보관
+	 */
+	private static final class Node {
+
+		private final Map<Character, Node> children = new HashMap<>(4);
+		private final Set<Long> ids = new LinkedHashSet<>(1);
+
+		void insert(String key, Long id) {
+			Node node = this;
+			for (int i = 0; i < key.length(); i++) {
+				node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+			}
+			node.ids.add(id);
+		}
+
+		Node find(String key) {
+			Node node = this;
+			for (int i = 0; i < key.length() && node != null; i++) {
+				node = node.children.get(key.charAt(i));
+			}
+			return node;
+		}
+
+		/**
+		 * ID 제거 후 비어 있는 하위 노드 정리
+		 */
+		boolean remove(String key, int depth, Long id) {
+			if (depth == key.length()) {
+				ids.remove(id);
+			} else {
+				Node child = children.get(key.charAt(depth));
+				if (child != null && child.remove(key, depth + 1, id)) {
+					children.remove(key.charAt(depth));
+				}
+			}
+			return ids.isEmpty() && children.isEmpty();
+		}
+	}
+}
@@ -2,6 +2,7 @@ package com.gdc.tripmate.domain.tag.service;
 
 
 import com.gdc.tripmate.domain.tag.dto.request.TagDto;
+import com.gdc.tripmate.domain.tag.dto.response.PopularTagResponse;
 import java.util.List;
 import java.util.Map;
 
@@ -71,4 +72,22 @@ public interface TagService {
 	 * @return 존재 여부
 	 */
 	boolean existsByName(String name);
-}
\ No newline at end of file
+
+	/**
+	 * 인기 태그 목록 조회
+	 *
+	 * @param category 태그 카테고리 (null 이면 전체)
+	 * @param limit    조회할 개수
+	 * @return 프로필 연결 수 순 인기 태그 목록
+	 */
+	List<PopularTagResponse> getPopularTags(String category, int limit);
+
+	/**
+	 * 태그 자동완성 검색
+	 *
+	 * @param query 입력 중인 검색어 (초성, 자모 단위 입력 포함)
+	 * @param limit 조회할 개수
+	 * @return 일치도 순 태그 DTO 목록
+	 */
+	List<TagDto> searchTags(String query, int limit);
+}
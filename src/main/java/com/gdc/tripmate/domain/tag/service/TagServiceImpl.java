@@ -1,6 +1,7 @@
 package com.gdc.tripmate.domain.tag.service;
 
 import com.gdc.tripmate.domain.tag.dto.request.TagDto;
+import com.gdc.tripmate.domain.tag.dto.response.PopularTagResponse;
 import com.gdc.tripmate.domain.tag.entity.Tag;
 import com.gdc.tripmate.domain.tag.repository.TagRepository;
 import com.gdc.tripmate.global.error.ResourceNotFoundException;
@@ -9,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -23,6 +23,10 @@ import java.util.stream.Collectors;
 public class TagServiceImpl implements TagService {
 
     private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+    private final TagPopularityIndex tagPopularityIndex;
+    private final TagSearchIndex tagSearchIndex;
+    private final TagNormalizer tagNormalizer;
 
     /**
      * 모든 태그 조회
@@ -36,29 +40,11 @@ public class TagServiceImpl implements TagService {
     }
 
     /**
-     * 카테고리별 태그 목록 조회
+     * 카테고리별 태그 목록 조회 - 태그 사전 스냅샷에 미리 계산된 응답 사용 (DB 조회 없음)
      */
     @Override
-    @Transactional(readOnly = true)
     public Map<String, List<String>> getAllCategorizedTags() {
-        List<Tag> allTags = tagRepository.findAll();
-        
-        // 태그를 카테고리별로 그룹화
-        Map<String, List<String>> categorizedTags = new HashMap<>();
-        
-        // 태그를 카테고리별로 그룹화
-        Map<String, List<Tag>> tagsByCategory = allTags.stream()
-                .collect(Collectors.groupingBy(Tag::getCategory));
-        
-        // 각 카테고리별로 태그 이름만 추출
-        tagsByCategory.forEach((category, tags) -> {
-            List<String> tagNames = tags.stream()
-                    .map(Tag::getName)
-                    .collect(Collectors.toList());
-            categorizedTags.put(category, tagNames);
-        });
-        
-        return categorizedTags;
+        return tagDictionary.snapshot().categorized();
     }
 
     /**
@@ -89,14 +75,21 @@ public class TagServiceImpl implements TagService {
     @Override
     @Transactional
     public TagDto createTag(TagDto tagDto) {
-        // 이름 중복 체크
-        if (tagRepository.existsByName(tagDto.getName())) {
+        if (tagDto.getName() == null || tagDto.getName().isBlank()) {
+            throw new IllegalArgumentException("태그 이름을 입력해 주세요.");
+        }
+
+        // 이름 중복 체크 (대소문자, 공백 등 표기 차이와 동의어 포함)
+        String name = TagNormalizer.display(tagDto.getName());
+        if (tagRepository.existsByName(name)
+                || tagDictionary.snapshot().findByKey(tagNormalizer.canonicalKey(name)).isPresent()) {
             throw new IllegalArgumentException("이미 존재하는 태그 이름입니다: " + tagDto.getName());
         }
         
         // 태그 생성 및 저장
-        Tag tag = new Tag(tagDto.getName(), tagDto.getCategory());
+        Tag tag = new Tag(name, tagDto.getCategory());
         Tag savedTag = tagRepository.save(tag);
+        tagDictionary.refreshAfterCommit();
         
         return convertToDto(savedTag);
     }
@@ -111,17 +104,28 @@ public class TagServiceImpl implements TagService {
         Tag tag = tagRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("태그를 찾을 수 없습니다. ID: " + id));
         
-        // 이름 변경 시 중복 체크
-        if (!tag.getName().equals(tagDto.getName()) && tagRepository.existsByName(tagDto.getName())) {
+        if (tagDto.getName() == null || tagDto.getName().isBlank()) {
+            throw new IllegalArgumentException("태그 이름을 입력해 주세요.");
+        }
+
+        // 이름 변경 시 중복 체크 (생성과 같이 표기 차이와 동의어 포함, 자기 자신은 제외)
+        String name = TagNormalizer.display(tagDto.getName());
+        boolean duplicated = !tag.getName().equals(name) && tagRepository.existsByName(name);
+        duplicated |= tagDictionary.snapshot().findByKey(tagNormalizer.canonicalKey(name))
+                .filter(entry -> !entry.id().equals(id))
+                .isPresent();
+        if (duplicated) {
             throw new IllegalArgumentException("이미 존재하는 태그 이름입니다: " + tagDto.getName());
         }
         
-        // 새 태그 생성 (불변 객체이므로)
-        Tag updatedTag = new Tag(tagDto.getName(), tagDto.getCategory());
-        // ID 설정
-        updatedTag = tagRepository.save(updatedTag);
+        // 조회한 태그를 그대로 수정 (카테고리가 없으면 기존 값 유지)
+        tag.rename(name);
+        if (tagDto.getCategory() != null) {
+            tag.changeCategory(tagDto.getCategory());
+        }
+        tagDictionary.refreshAfterCommit();
         
-        return convertToDto(updatedTag);
+        return convertToDto(tag);
     }
 
     /**
@@ -131,12 +135,13 @@ public class TagServiceImpl implements TagService {
     @Transactional
     public void deleteTag(Long id) {
         // 태그 존재 여부 확인
-        if (!tagRepository.existsById(id)) {
-            throw new ResourceNotFoundException("태그를 찾을 수 없습니다. ID: " + id);
-        }
+        Tag tag = tagRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("태그를 찾을 수 없습니다. ID: " + id));
         
         // 태그 삭제
-        tagRepository.deleteById(id);
+        tagRepository.delete(tag);
+        tagDictionary.refreshAfterCommit();
+        tagPopularityIndex.removeAfterCommit(List.of(tag));
     }
 
     /**
@@ -148,6 +153,25 @@ public class TagServiceImpl implements TagService {
         return tagRepository.existsByName(name);
     }
 
+    /**
+     * 인기 태그 목록 조회 - Redis 인기 색인 사용 (조인 테이블 집계 없음)
+     */
+    @Override
+    public List<PopularTagResponse> getPopularTags(String category, int limit) {
+        if (category == null || category.isBlank()) {
+            return tagPopularityIndex.top(limit);
+        }
+        return tagPopularityIndex.top(category.toUpperCase(), limit);
+    }
+
+    /**
+     * 태그 자동완성 검색 - 메모리 색인 사용 (LIKE 검색 없음)
+     */
+    @Override
+    public List<TagDto> searchTags(String query, int limit) {
+        return tagSearchIndex.search(query, limit);
+    }
+
     /**
      * Tag 엔티티를 TagDto로 변환
      */
@@ -1,11 +1,11 @@
 package com.gdc.tripmate.domain.tag.service;
 
+import com.gdc.tripmate.domain.match.service.MatchIndexManager;
 import com.gdc.tripmate.domain.tag.dto.request.NicknameCheckDto;
 import com.gdc.tripmate.domain.tag.dto.request.ProfileDto;
 import com.gdc.tripmate.domain.tag.dto.request.ProfileSetupDto;
 import com.gdc.tripmate.domain.tag.entity.Tag;
 import com.gdc.tripmate.domain.tag.entity.UserProfile;
-import com.gdc.tripmate.domain.tag.repository.TagRepository;
 import com.gdc.tripmate.domain.tag.repository.UserProfileRepository;
 import com.gdc.tripmate.domain.user.entity.User;
 import com.gdc.tripmate.domain.user.repository.UserRepository;
@@ -14,10 +14,14 @@ import com.gdc.tripmate.global.error.ResourceNotFoundException;
 import com.gdc.tripmate.global.util.FileUploadUtil;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,7 +36,9 @@ public class UserProfileServiceImpl implements UserProfileService {
 
 	private final UserRepository userRepository;
 	private final UserProfileRepository userProfileRepository;
-	private final TagRepository tagRepository;
+	private final TagResolver tagResolver;
+	private final TagPopularityIndex tagPopularityIndex;
+	private final MatchIndexManager matchIndexManager;
 	private final FileUploadUtil fileUploadUtil;
 
 	@Value("${app.tag.categories:MBTI,HOBBY,INTEREST}")
@@ -64,6 +70,7 @@ public class UserProfileServiceImpl implements UserProfileService {
 	 */
 	@Override
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = "profiles", key = "#userId")
 	public ProfileDto getProfile(Long userId) {
 		User user = userRepository.findById(userId)
 				.orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
@@ -107,6 +114,7 @@ public class UserProfileServiceImpl implements UserProfileService {
 	 */
 	@Override
 	@Transactional
+	@CacheEvict(cacheNames = "profiles", key = "#userId")
 	public ProfileDto updateProfile(Long userId, ProfileDto profileDto,
 			MultipartFile profileImage) {
 		User user = userRepository.findById(userId)
@@ -150,19 +158,12 @@ public class UserProfileServiceImpl implements UserProfileService {
 			}
 		}
 
-		// 태그 처리 - 전부 삭제 후 새로 등록
+		// 태그 처리 - 기존 태그와 비교해 변경분만 삭제/추가
 		if (profileDto.getTags() != null) {
-			profile.removeTags(); // 기존 태그 제거
-
-			for (String tagName : profileDto.getTags()) {
-				try {
-					Tag tag = tagRepository.findByName(tagName)
-							.orElseGet(() -> tagRepository.save(new Tag(tagName)));
-					profile.addTag(tag);
-				} catch (Exception e) {
-					log.error("태그 처리 중 오류 발생 (태그: {}): {}", tagName, e.getMessage(), e);
-				}
-			}
+			Map<String, Tag> tags = tagResolver.resolve(profileDto.getTags());
+			Set<Long> previousTagIds = profile.tagIds();
+			profile.syncTags(tags.values());
+			tagPopularityIndex.applyAfterCommit(previousTagIds, profile.tagIds());
 		}
 
 		// 프로필 완성 여부 체크
@@ -170,6 +171,7 @@ public class UserProfileServiceImpl implements UserProfileService {
 
 		// 프로필 업데이트 후 저장
 		UserProfile updatedProfile = userProfileRepository.save(profile);
+		matchIndexManager.publishAfterCommit(updatedProfile.getId());
 
 		// 업데이트된 프로필 정보 반환
 		List<String> tagNames = updatedProfile.getProfileTags().stream()
@@ -196,6 +198,7 @@ public class UserProfileServiceImpl implements UserProfileService {
 	 */
 	@Override
 	@Transactional
+	@CacheEvict(cacheNames = "profiles", key = "#userId")
 	public ProfileDto setupProfile(Long userId, ProfileSetupDto profileSetupDto,
 			MultipartFile profileImage) {
 		log.info("프로필 설정 시작 - userId: {}, nickname: {}", userId, profileSetupDto.getNickname());
@@ -262,19 +265,11 @@ public class UserProfileServiceImpl implements UserProfileService {
 		// 태그 설정
 		List<String> addedTags = new ArrayList<>();
 		if (profileSetupDto.getTags() != null && !profileSetupDto.getTags().isEmpty()) {
-			for (String tagName : profileSetupDto.getTags()) {
-				try {
-					Tag tag = tagRepository.findByName(tagName)
-							.orElseGet(() -> {
-								log.info("새 태그 생성: {}", tagName);
-								return tagRepository.save(new Tag(tagName));
-							});
-					profile.addTag(tag);
-					addedTags.add(tagName);
-				} catch (Exception e) {
-					log.error("태그 처리 중 오류 발생 (태그: {}): {}", tagName, e.getMessage(), e);
-				}
-			}
+			Map<String, Tag> tags = tagResolver.resolve(profileSetupDto.getTags());
+			Set<Long> previousTagIds = profile.tagIds();
+			tags.values().forEach(profile::addTag);
+			tagPopularityIndex.applyAfterCommit(previousTagIds, profile.tagIds());
+			addedTags.addAll(tags.keySet());
 		}
 		log.info("추가된 태그: {}", addedTags);
 
@@ -283,6 +278,7 @@ public class UserProfileServiceImpl implements UserProfileService {
 
 		// 프로필 저장
 		UserProfile savedProfile = userProfileRepository.save(profile);
+		matchIndexManager.publishAfterCommit(savedProfile.getId());
 		log.info("프로필 저장 완료 - 프로필ID: {}, 완료 여부: {}", savedProfile.getId(), savedProfile.isProfileCompleted());
 
 		// 설정된 프로필 정보 반환
@@ -310,6 +306,7 @@ public class UserProfileServiceImpl implements UserProfileService {
 	 */
 	@Override
 	@Transactional
+	@CacheEvict(cacheNames = "profiles", key = "#userId")
 	public String updateProfileImage(Long userId, MultipartFile image) {
 		User user = userRepository.findById(userId)
 				.orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
@@ -54,6 +54,18 @@ public class AuthController {
 		return ResponseEntity.ok(Map.of("message", "로그아웃 성공"));
 	}
 
+	/**
+	 * 모든 기기에서 로그아웃 API
+	 */
+	@PostMapping("/logout-all")
+	public ResponseEntity<Map<String, Object>> logoutAll(HttpServletRequest request,
+			HttpServletResponse response) {
+		// 서비스 계층에 위임
+		int removedSessions = authService.logoutAll(request, response);
+		return ResponseEntity.ok(Map.of("message", "모든 기기에서 로그아웃 성공",
+				"removedSessions", removedSessions));
+	}
+
 	/**
 	 * 리프레시 토큰으로 액세스 토큰 갱신 API
 	 */
@@ -0,0 +1,16 @@
+package com.gdc.tripmate.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 세션 저장소에 저장된 세션 정보
+ */
+@Getter
+@AllArgsConstructor
+public class StoredSession {
+
+	private String sessionId;
+	private String refreshToken;
+	private String email;
+}
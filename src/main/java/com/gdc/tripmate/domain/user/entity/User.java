@@ -4,6 +4,7 @@ import com.gdc.tripmate.domain.tag.entity.UserProfile;
 import com.gdc.tripmate.domain.user.status.AuthProvider;
 import com.gdc.tripmate.domain.user.status.Status;
 import com.gdc.tripmate.global.TimeStamp;
+import com.gdc.tripmate.global.security.customUser.UserDetailsCacheEvictionListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,6 +17,7 @@ import java.util.List;
  */
 @Entity
 @Table(name = "users")
+@EntityListeners(UserDetailsCacheEvictionListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends TimeStamp {
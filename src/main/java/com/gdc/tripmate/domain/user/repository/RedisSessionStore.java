@@ -0,0 +1,141 @@
+package com.gdc.tripmate.domain.user.repository;
+
+import com.gdc.tripmate.domain.user.dto.StoredSession;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis 기반 세션 저장소 저장/갱신은 Lua 스크립트로 묶어 한 번의 왕복으로 원자적으로 처리하고, 스크립트에서 미리 알 수 없는 세션 키 삭제는
+ * 파이프라인으로 처리 사용자별 세션 목록은 마지막 사용 시각을 점수로 하는 Sorted Set으로 관리
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisSessionStore implements SessionStore {
+
+	private static final String SESSION_KEY_PREFIX = "SESSION:";
+	private static final String USER_SESSIONS_KEY_PREFIX = "USER_SESSIONS:";
+
+	private static final String REFRESH_TOKEN_FIELD = "refreshToken";
+	private static final String EMAIL_FIELD = "email";
+
+	// KEYS[1]=SESSION:<id>, KEYS[2]=USER_SESSIONS:<email>
+	// ARGV[1]=리프레시 토큰, ARGV[2]=이메일, ARGV[3]=세션 ID, ARGV[4]=TTL(ms), ARGV[5]=현재 시각(ms),
+	// ARGV[6]=최대 세션 수
+	// 목록에서 밀려난 세션 ID를 반환하고, 그 세션 정보(해시)는 호출한 쪽에서 삭제 (스크립트에서는 선언한 키만 사용)
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> SAVE_SCRIPT = new DefaultRedisScript<>(
+			"redis.call('HSET', KEYS[1], 'refreshToken', ARGV[1], 'email', ARGV[2]) "
+					+ "redis.call('PEXPIRE', KEYS[1], ARGV[4]) "
+					// 유효 기간이 지난 세션 항목 정리 (해시만 먼저 만료된 항목은 touch 시점에 정리)
+					+ "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', "
+					+ "tonumber(ARGV[5]) - tonumber(ARGV[4])) "
+					+ "redis.call('ZADD', KEYS[2], ARGV[5], ARGV[3]) "
+					// 최대 세션 수를 넘으면 가장 오래 사용하지 않은 세션부터 제거
+					+ "local overflow = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[6]) "
+					+ "local evicted = {} "
+					+ "if overflow > 0 then "
+					+ "  evicted = redis.call('ZRANGE', KEYS[2], 0, overflow - 1) "
+					+ "  redis.call('ZREMRANGEBYRANK', KEYS[2], 0, overflow - 1) "
+					+ "end "
+					+ "redis.call('PEXPIRE', KEYS[2], ARGV[4]) "
+					+ "return evicted",
+			List.class);
+
+	// KEYS[1]=SESSION:<id>, KEYS[2]=USER_SESSIONS:<email> / ARGV[1]=세션 ID, ARGV[2]=현재 시각(ms)
+	// 세션 정보가 이미 만료되었으면 목록에서 제거 (만료된 세션이 최대 세션 수를 차지하지 않도록)
+	private static final RedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('EXISTS', KEYS[1]) == 1 then "
+					+ "  redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1]) "
+					+ "  return 1 "
+					+ "end "
+					+ "redis.call('ZREM', KEYS[2], ARGV[1]) "
+					+ "return 0",
+			Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<String> save(String sessionId, String refreshToken, String email, long ttlMillis,
+			int maxSessions) {
+		List<String> evicted = redisTemplate.execute(SAVE_SCRIPT,
+				List.of(SESSION_KEY_PREFIX + sessionId, USER_SESSIONS_KEY_PREFIX + email),
+				refreshToken, email, sessionId, String.valueOf(ttlMillis),
+				String.valueOf(System.currentTimeMillis()), String.valueOf(maxSessions));
+		if (evicted != null && !evicted.isEmpty()) {
+			redisTemplate.delete(evicted.stream().map(id -> SESSION_KEY_PREFIX + id).toList());
+		}
+		return evicted;
+	}
+
+	@Override
+	public StoredSession find(String sessionId) {
+		List<Object> values = redisTemplate.opsForHash().multiGet(
+				SESSION_KEY_PREFIX + sessionId, List.of(REFRESH_TOKEN_FIELD, EMAIL_FIELD));
+
+		if (values.get(0) == null || values.get(1) == null) {
+			return null;
+		}
+		return new StoredSession(sessionId, (String) values.get(0), (String) values.get(1));
+	}
+
+	@Override
+	public void touch(String sessionId, String email) {
+		redisTemplate.execute(TOUCH_SCRIPT,
+				List.of(SESSION_KEY_PREFIX + sessionId, USER_SESSIONS_KEY_PREFIX + email),
+				sessionId, String.valueOf(System.currentTimeMillis()));
+	}
+
+	@Override
+	public void remove(String sessionId) {
+		String sessionKey = SESSION_KEY_PREFIX + sessionId;
+		Object email = redisTemplate.opsForHash().get(sessionKey, EMAIL_FIELD);
+		if (email == null) {
+			// 이미 만료된 세션 목록 항목은 TTL 정리에서 제거
+			redisTemplate.delete(sessionKey);
+			return;
+		}
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+				ops.delete(sessionKey);
+				ops.opsForZSet().remove(USER_SESSIONS_KEY_PREFIX + email, sessionId);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * 목록에 있던 세션만 제거 (조회와 제거 사이 새로 저장된 세션은 목록과 정보가 함께 남음)
+	 */
+	@Override
+	public List<String> removeAll(String email) {
+		String userSessionsKey = USER_SESSIONS_KEY_PREFIX + email;
+		Set<String> ids = redisTemplate.opsForZSet().range(userSessionsKey, 0, -1);
+		if (ids == null || ids.isEmpty()) {
+			return List.of();
+		}
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+				for (String id : ids) {
+					ops.delete(SESSION_KEY_PREFIX + id);
+				}
+				ops.opsForZSet().remove(userSessionsKey, ids.toArray());
+				return null;
+			}
+		});
+		return List.copyOf(ids);
+	}
+}
@@ -0,0 +1,54 @@
+package com.gdc.tripmate.domain.user.repository;
+
+import com.gdc.tripmate.domain.user.dto.StoredSession;
+import java.util.List;
+
+/**
+ * 서버 측 세션 저장소 세션 저장과 사용 시각 갱신은 한 번의 원자적 호출로 처리하며, 사용자별 세션 목록(기기별 로그인)을 함께 관리
+ */
+public interface SessionStore {
+
+	/**
+	 * 세션 저장 (세션 정보와 사용자별 세션 목록을 함께 갱신) 최대 세션 수를 넘으면 가장 오래 사용하지 않은 세션부터 제거
+	 *
+	 * @param sessionId    세션 ID
+	 * @param refreshToken 리프레시 토큰
+	 * @param email        사용자 이메일
+	 * @param ttlMillis    세션 유지 시간 (밀리초)
+	 * @param maxSessions  사용자별 최대 동시 세션 수
+	 * @return 최대 세션 수 초과로 제거된 세션 ID 목록
+	 */
+	List<String> save(String sessionId, String refreshToken, String email, long ttlMillis,
+			int maxSessions);
+
+	/**
+	 * 세션 조회
+	 *
+	 * @param sessionId 세션 ID
+	 * @return 저장된 세션, 없으면 null
+	 */
+	StoredSession find(String sessionId);
+
+	/**
+	 * 세션 마지막 사용 시각 갱신 (세션 정보가 이미 만료되었으면 사용자별 세션 목록에서 제거)
+	 *
+	 * @param sessionId 세션 ID
+	 * @param email     사용자 이메일
+	 */
+	void touch(String sessionId, String email);
+
+	/**
+	 * 세션 제거 (세션 정보와 사용자별 세션 목록의 항목을 함께 제거)
+	 *
+	 * @param sessionId 세션 ID
+	 */
+	void remove(String sessionId);
+
+	/**
+	 * 사용자의 모든 세션 제거 (모든 기기에서 로그아웃)
+	 *
+	 * @param email 사용자 이메일
+	 * @return 제거된 세션 ID 목록
+	 */
+	List<String> removeAll(String email);
+}
@@ -35,6 +35,15 @@ public interface AuthService {
 	 */
 	void logout(HttpServletRequest request, HttpServletResponse response);
 
+	/**
+	 * 모든 기기에서 로그아웃 처리
+	 *
+	 * @param request HTTP 요청
+	 * @param response HTTP 응답
+	 * @return 제거된 세션 수
+	 */
+	int logoutAll(HttpServletRequest request, HttpServletResponse response);
+
 	/**
 	 * 토큰 리프레시
 	 *
@@ -11,7 +11,6 @@ import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,7 +25,6 @@ public class AuthServiceImpl implements AuthService {
 
 	private final JwtTokenProvider jwtTokenProvider;
 	private final UserRepository userRepository;
-	private final RedisTemplate<String, String> redisTemplate;
 	private final CookieService cookieService;
 	private final SessionService sessionService;
 
@@ -106,22 +104,16 @@ public class AuthServiceImpl implements AuthService {
 	}
 
 	/**
-	 * 로그아웃 처리 메서드
+	 * 로그아웃 처리 메서드 (현재 기기의 세션만 제거)
 	 */
 	@Override
 	@Transactional
 	public void logout(HttpServletRequest request, HttpServletResponse response) {
 		try {
-			// 액세스 토큰에서 이메일 추출
-			String accessToken = cookieService.extractCookieValue(request, "access_token");
-			if (accessToken != null) {
-				String email = jwtTokenProvider.getEmailFromToken(accessToken);
-
-				// 세션 제거
-				String sessionId = redisTemplate.opsForValue().get("RT:" + email);
-				if (sessionId != null) {
-					sessionService.removeSession(sessionId, email);
-				}
+			// 현재 기기의 세션 제거
+			String sessionId = cookieService.extractCookieValue(request, "session_id");
+			if (sessionId != null) {
+				sessionService.removeSession(sessionId);
 			}
 
 			// 인증 관련 쿠키 삭제
@@ -134,6 +126,27 @@ public class AuthServiceImpl implements AuthService {
 		}
 	}
 
+	/**
+	 * 모든 기기에서 로그아웃 처리 메서드
+	 */
+	@Override
+	@Transactional
+	public int logoutAll(HttpServletRequest request, HttpServletResponse response) {
+		try {
+			String email = resolveEmail(request);
+			int removedCount = email != null ? sessionService.removeAllSessions(email) : 0;
+			log.info("모든 기기에서 로그아웃: email={}, 제거된 세션 수={}", email, removedCount);
+
+			cookieService.clearAuthCookies(response);
+			return removedCount;
+
+		} catch (Exception e) {
+			log.error("전체 로그아웃 중 오류 발생", e);
+			cookieService.clearAuthCookies(response);
+			return 0;
+		}
+	}
+
 	/**
 	 * 토큰 리프레시 메서드
 	 */
@@ -178,6 +191,20 @@ public class AuthServiceImpl implements AuthService {
 		}
 	}
 
+	/**
+	 * 요청의 액세스 토큰 또는 세션에서 사용자 이메일 추출
+	 */
+	private String resolveEmail(HttpServletRequest request) {
+		String accessToken = cookieService.extractCookieValue(request, "access_token");
+		if (accessToken != null && jwtTokenProvider.validateToken(accessToken)) {
+			return jwtTokenProvider.getEmailFromToken(accessToken);
+		}
+
+		// 액세스 토큰이 만료된 경우 세션에 저장된 이메일 사용
+		String sessionId = cookieService.extractCookieValue(request, "session_id");
+		return sessionId != null ? sessionService.findEmailBySessionId(sessionId) : null;
+	}
+
 	/**
 	 * 인증되지 않은 상태의 응답 생성
 	 */
@@ -2,14 +2,23 @@
 package com.gdc.tripmate.domain.user.service;
 
 import com.gdc.tripmate.domain.user.dto.AuthResult;
+import com.gdc.tripmate.domain.user.dto.StoredSession;
 import com.gdc.tripmate.domain.user.entity.User;
+import com.gdc.tripmate.domain.user.repository.SessionStore;
 import com.gdc.tripmate.domain.user.repository.UserRepository;
+import com.gdc.tripmate.domain.user.status.Status;
 import com.gdc.tripmate.global.security.jwt.JwtTokenProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletResponse;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -20,64 +29,152 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class SessionService {
 
-	private final RedisTemplate<String, String> redisTemplate;
+	private final SessionStore sessionStore;
 	private final JwtTokenProvider jwtTokenProvider;
 	private final UserRepository userRepository;
 	private final CookieService cookieService;
+	private final UserRevocationService userRevocationService;
+
+	// 같은 세션에 대해 진행 중인 리프레시 (동시 요청은 하나의 결과를 공유)
+	private final ConcurrentHashMap<String, CompletableFuture<AuthResult>> inFlightRefreshes =
+			new ConcurrentHashMap<>();
+
+	// 사용자별 최대 동시 세션 수 (기기 수)
+	@Value("${app.session.max-sessions-per-user:5}")
+	private int maxSessionsPerUser;
+
+	// 방금 발급한 액세스 토큰을 재사용하는 유예 시간 (초)
+	@Value("${app.session.refresh-grace-seconds:10}")
+	private long refreshGraceSeconds;
+
+	private Cache<String, AuthResult> recentRefreshes;
+
+	@PostConstruct
+	public void init() {
+		this.recentRefreshes = Caffeine.newBuilder()
+				.maximumSize(100_000)
+				.expireAfterWrite(Duration.ofSeconds(refreshGraceSeconds))
+				.build();
+	}
 
 	/**
-	 * 세션 저장
+	 * 세션 저장 세션 정보와 사용자별 세션 목록을 한 번에 갱신하며, 최대 세션 수를 넘으면 가장 오래된 기기의 세션을 제거
 	 */
 	public void saveSession(String sessionId, String refreshToken, String email) {
-		// 세션 ID와 리프레시 토큰을 Redis에 저장 (서버 측 관리)
-		redisTemplate.opsForValue().set(
-				"SESSION:" + sessionId,
-				refreshToken,
-				jwtTokenProvider.getRefreshTokenValidityInMilliseconds(),
-				TimeUnit.MILLISECONDS
-		);
-
-		// 이메일과 세션 ID 매핑도 유지 (로그아웃 시 삭제용)
-		redisTemplate.opsForValue().set(
-				"RT:" + email,
-				sessionId,
-				jwtTokenProvider.getRefreshTokenValidityInMilliseconds(),
-				TimeUnit.MILLISECONDS
-		);
+		List<String> evictedSessionIds = sessionStore.save(sessionId, refreshToken, email,
+				jwtTokenProvider.getRefreshTokenValidityInMilliseconds(), maxSessionsPerUser);
+
+		if (evictedSessionIds != null && !evictedSessionIds.isEmpty()) {
+			recentRefreshes.invalidateAll(evictedSessionIds);
+			log.info("최대 세션 수 초과로 세션 제거: email={}, count={}", email,
+					evictedSessionIds.size());
+		}
+	}
+
+	/**
+	 * 세션 제거 (현재 기기에서 로그아웃)
+	 */
+	public void removeSession(String sessionId) {
+		recentRefreshes.invalidate(sessionId);
+		sessionStore.remove(sessionId);
 	}
 
 	/**
-	 * 세션 제거
+	 * 사용자의 모든 세션 제거 (모든 기기에서 로그아웃)
 	 */
-	public void removeSession(String sessionId, String email) {
-		redisTemplate.delete("SESSION:" + sessionId);
-		redisTemplate.delete("RT:" + email);
+	public int removeAllSessions(String email) {
+		List<String> removedSessionIds = sessionStore.removeAll(email);
+		if (removedSessionIds == null) {
+			return 0;
+		}
+
+		recentRefreshes.invalidateAll(removedSessionIds);
+		return removedSessionIds.size();
 	}
 
 	/**
-	 * 세션 리프레시 세션 ID로 리프레시 토큰을 찾아 검증하고 새 액세스 토큰 발급
+	 * 세션 ID로 사용자 이메일 조회
+	 */
+	public String findEmailBySessionId(String sessionId) {
+		StoredSession session = sessionStore.find(sessionId);
+		return session != null ? session.getEmail() : null;
+	}
+
+	/**
+	 * 세션 리프레시 세션 ID로 리프레시 토큰을 찾아 검증하고 새 액세스 토큰 발급 동시에 들어온 같은 세션의 리프레시는 하나로 합치고, 유예 시간 내에는
+	 * 방금 발급한 토큰을 재사용
 	 */
 	public AuthResult refreshSession(String sessionId, HttpServletResponse response) {
+		AuthResult result = recentRefreshes.getIfPresent(sessionId);
+		if (result == null) {
+			result = coalescedRefresh(sessionId);
+		}
+
+		// 액세스 토큰을 HTTP-Only 쿠키로 설정 (응답마다 설정)
+		if (result.isSuccess()) {
+			cookieService.setAccessTokenCookie(response, result.getAccessToken());
+		}
+
+		return result;
+	}
+
+	/**
+	 * 세션 ID 단위 단일 실행 먼저 들어온 요청만 실제 리프레시를 수행하고 나머지는 그 결과를 기다림
+	 */
+	private AuthResult coalescedRefresh(String sessionId) {
+		CompletableFuture<AuthResult> future = new CompletableFuture<>();
+		CompletableFuture<AuthResult> inFlight = inFlightRefreshes.putIfAbsent(sessionId, future);
+		if (inFlight != null) {
+			return inFlight.join();
+		}
+
+		try {
+			AuthResult result = issueAccessToken(sessionId);
+			if (result.isSuccess()) {
+				recentRefreshes.put(sessionId, result);
+			}
+			future.complete(result);
+			return result;
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlightRefreshes.remove(sessionId, future);
+		}
+	}
+
+	/**
+	 * 리프레시 토큰 검증 후 새 액세스 토큰 발급
+	 */
+	private AuthResult issueAccessToken(String sessionId) {
 		try {
-			// Redis에서 세션 ID로 리프레시 토큰 조회
-			String refreshToken = redisTemplate.opsForValue().get("SESSION:" + sessionId);
+			// 세션 저장소에서 세션 ID로 리프레시 토큰 조회
+			StoredSession session = sessionStore.find(sessionId);
 
-			if (refreshToken == null || !jwtTokenProvider.validateToken(refreshToken)) {
+			if (session == null || !jwtTokenProvider.validateToken(session.getRefreshToken())) {
 				return AuthResult.builder()
 						.success(false)
 						.build();
 			}
 
-			// 리프레시 토큰에서 사용자 정보 추출
-			String email = jwtTokenProvider.getEmailFromToken(refreshToken);
+			// 세션에 저장된 사용자 정보 사용 (리프레시 토큰에는 사용자 정보가 없음)
+			String email = session.getEmail();
 			User user = userRepository.findByEmail(email)
 					.orElseThrow(() -> new RuntimeException("User not found"));
 
-			// 새 액세스 토큰 생성
-			String newAccessToken = jwtTokenProvider.createAccessToken(email, user.getRoles());
+			// 정지/탈퇴했거나 차단된 사용자는 새 액세스 토큰 발급 불가 (차단 키 만료 후에도 상태로 거부)
+			if (isBlocked(user) || userRevocationService.isRevoked(user.getId())) {
+				return AuthResult.builder()
+						.success(false)
+						.build();
+			}
+
+			// 세션 마지막 사용 시각 갱신
+			sessionStore.touch(sessionId, email);
 
-			// 액세스 토큰을 HTTP-Only 쿠키로 설정
-			cookieService.setAccessTokenCookie(response, newAccessToken);
+			// 새 액세스 토큰 생성
+			String newAccessToken = jwtTokenProvider.createAccessToken(user.getId(), email,
+					user.getRoles());
 
 			return AuthResult.builder()
 					.success(true)
@@ -92,4 +189,8 @@ public class SessionService {
 					.build();
 		}
 	}
-}
\ No newline at end of file
+
+	private boolean isBlocked(User user) {
+		return user.getStatus() == Status.SUSPENDED || user.getStatus() == Status.DELETED;
+	}
+}
@@ -0,0 +1,71 @@
+package com.gdc.tripmate.domain.user.service;
+
+import com.gdc.tripmate.global.security.jwt.JwtTokenProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 정지/탈퇴 등으로 차단된 사용자를 관리하는 서비스 무상태(클레임 기반) 인증에서 DB 조회 없이 차단 여부를 확인하기 위해 사용
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserRevocationService {
+
+	private static final String REVOKED_USER_KEY_PREFIX = "REVOKED_USER:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final JwtTokenProvider jwtTokenProvider;
+
+	// Redis 조회 결과를 짧게 보관하는 로컬 캐시 (요청마다 Redis 왕복 방지)
+	@Value("${jwt.stateless-principal.revocation-check-ttl-seconds:30}")
+	private long revocationCheckTtlSeconds;
+
+	private Cache<Long, Boolean> revocationCache;
+
+	@PostConstruct
+	public void init() {
+		this.revocationCache = Caffeine.newBuilder()
+				.maximumSize(100_000)
+				.expireAfterWrite(Duration.ofSeconds(revocationCheckTtlSeconds))
+				.build();
+	}
+
+	/**
+	 * 사용자 차단 이미 발급된 액세스 토큰이 만료될 때까지 차단 상태 유지
+	 */
+	public void revoke(Long userId) {
+		redisTemplate.opsForValue().set(
+				REVOKED_USER_KEY_PREFIX + userId,
+				"true",
+				jwtTokenProvider.getAccessTokenValidityInMilliseconds(),
+				TimeUnit.MILLISECONDS
+		);
+		revocationCache.put(userId, true);
+		log.info("사용자 차단 등록: userId={}", userId);
+	}
+
+	/**
+	 * 사용자 차단 해제
+	 */
+	public void restore(Long userId) {
+		redisTemplate.delete(REVOKED_USER_KEY_PREFIX + userId);
+		revocationCache.put(userId, false);
+	}
+
+	/**
+	 * 사용자 차단 여부 확인
+	 */
+	public boolean isRevoked(Long userId) {
+		return revocationCache.get(userId,
+				id -> Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_USER_KEY_PREFIX + id)));
+	}
+}
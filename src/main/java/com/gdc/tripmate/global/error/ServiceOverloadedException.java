@@ -0,0 +1,24 @@
+package com.gdc.tripmate.global.error;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 처리 용량을 넘어 요청을 받을 수 없는 경우 발생하는 예외 (Retry-After 헤더로 재시도 시점 안내)
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        this(message, HttpStatus.SERVICE_UNAVAILABLE, retryAfterSeconds);
+    }
+
+    public ServiceOverloadedException(String message, HttpStatus status, long retryAfterSeconds) {
+        super(message);
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,103 @@
+package com.gdc.tripmate.global.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 고정(pinning) 감지기 JFR jdk.VirtualThreadPinned 이벤트를 구독하여 synchronized 블록이나 네이티브 호출 안에서
+ * 블로킹되어 캐리어 스레드를 점유한 위치를 기록
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	// 로그에 남길 호출 스택 깊이
+	private static final int LOGGED_FRAMES = 8;
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${app.monitoring.virtual-thread-pinning.enabled:${spring.threads.virtual.enabled:false}}")
+	private boolean enabled;
+
+	// 이 시간 이상 고정된 경우만 기록
+	@Value("${app.monitoring.virtual-thread-pinning.threshold-millis:20}")
+	private long thresholdMillis;
+
+	private RecordingStream recordingStream;
+
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		recordingStream = new RecordingStream();
+		recordingStream.enable(PINNED_EVENT)
+				.withThreshold(Duration.ofMillis(thresholdMillis))
+				.withStackTrace();
+		recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+		recordingStream.startAsync();
+		log.info("가상 스레드 고정 감지 시작: threshold={}ms", thresholdMillis);
+	}
+
+	@Override
+	public void stop() {
+		if (recordingStream != null) {
+			recordingStream.close();
+			recordingStream = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return recordingStream != null;
+	}
+
+	private void onPinned(RecordedEvent event) {
+		String location = topApplicationFrame(event);
+		meterRegistry.counter("jvm.threads.virtual.pinned", "location", location).increment();
+		meterRegistry.timer("jvm.threads.virtual.pinned.duration").record(event.getDuration());
+
+		log.warn("가상 스레드 고정 감지: duration={}ms, location={}\n{}", event.getDuration().toMillis(),
+				location, stackSummary(event));
+	}
+
+	/**
+	 * 메트릭 태그용 위치 JDK/라이브러리 프레임을 건너뛰고 애플리케이션 코드의 첫 프레임 사용 (없으면 최상단 프레임)
+	 */
+	private String topApplicationFrame(RecordedEvent event) {
+		List<RecordedFrame> frames = frames(event);
+		return frames.stream()
+				.filter(frame -> frame.getMethod().getType().getName().startsWith("com.gdc.tripmate."))
+				.findFirst()
+				.or(() -> frames.stream().findFirst())
+				.map(this::format)
+				.orElse("unknown");
+	}
+
+	private String stackSummary(RecordedEvent event) {
+		return frames(event).stream()
+				.limit(LOGGED_FRAMES)
+				.map(frame -> "\tat " + format(frame))
+				.collect(Collectors.joining("\n"));
+	}
+
+	private List<RecordedFrame> frames(RecordedEvent event) {
+		return event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+	}
+
+	private String format(RecordedFrame frame) {
+		return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+	}
+}
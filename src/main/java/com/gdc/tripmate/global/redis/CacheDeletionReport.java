@@ -0,0 +1,29 @@
+package com.gdc.tripmate.global.redis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 캐시 일괄 삭제 진행/결과 보고
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CacheDeletionReport {
+
+	// 삭제 대상 (키 패턴 또는 네임스페이스)
+	private String target;
+
+	// 조회한 키 수
+	private long scannedKeys;
+
+	// 삭제한 키 수
+	private long deletedKeys;
+
+	// 처리한 배치 수
+	private int batches;
+
+	// 경과 시간 (밀리초)
+	private long elapsedMillis;
+}
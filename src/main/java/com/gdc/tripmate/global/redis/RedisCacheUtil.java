@@ -1,16 +1,58 @@
 package com.gdc.tripmate.global.redis;
 
-import java.util.Set;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class RedisCacheUtil {
 
+	// 네임스페이스별 캐시 키 목록 (Set) 키 접두사
+	private static final String NAMESPACE_KEY_PREFIX = "CACHE_NAMESPACE:";
+
+	// KEYS[1]=네임스페이스 키, KEYS[2]=임시 키 - 존재 확인과 이름 변경을 원자적으로 처리 (그 사이 만료/삭제 시 RENAME 오류 방지)
+	private static final RedisScript<Long> RENAME_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+					+ "redis.call('RENAME', KEYS[1], KEYS[2]) "
+					+ "return 1",
+			Long.class);
+
+	// KEYS[1]=네임스페이스 키, ARGV[1]=항목 만료시간(ms) - 남은 만료시간이 항목보다 짧거나 없을 때만 연장 (목록이 항목보다 먼저 사라지지 않도록)
+	private static final RedisScript<Long> EXTEND_TTL_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[1]) then "
+					+ "redis.call('PEXPIRE', KEYS[1], ARGV[1]) return 1 end "
+					+ "return 0",
+			Long.class);
+
+	// 만료시간 연장 스크립트는 인자를 값 직렬화기 대신 숫자 문자열로 주고받음
+	private static final RedisSerializer<Long> TTL_RESULT_SERIALIZER = new GenericToStringSerializer<>(
+			Long.class);
+
 	private final RedisTemplate<String, Object> redisObjectTemplate;
+	private final MeterRegistry meterRegistry;
+
+	// SCAN/SSCAN 한 번에 조회하고 UNLINK 한 번에 삭제할 키 수
+	@Value("${app.redis.scan-batch-size:500}")
+	private int scanBatchSize;
 
 	/**
 	 * 캐시에 데이터 저장
@@ -19,6 +61,43 @@ public class RedisCacheUtil {
 		redisObjectTemplate.opsForValue().set(key, value, ttl, timeUnit);
 	}
 
+	/**
+	 * 네임스페이스에 등록하며 캐시에 데이터 저장 (저장과 등록을 한 번의 파이프라인으로 처리) 키 목록은 등록된 항목 중 가장 늦게 만료되는 항목까지 유지
+	 */
+	public void putInNamespace(String namespace, String key, Object value, long ttl,
+			TimeUnit timeUnit) {
+		String namespaceKey = NAMESPACE_KEY_PREFIX + namespace;
+		redisObjectTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+				ops.opsForValue().set(key, value, ttl, timeUnit);
+				ops.opsForSet().add(namespaceKey, key);
+				ops.execute(EXTEND_TTL_SCRIPT, StringRedisSerializer.UTF_8, TTL_RESULT_SERIALIZER,
+						List.of(namespaceKey), String.valueOf(timeUnit.toMillis(ttl)));
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * 캐시에서 데이터를 삭제하고 네임스페이스 키 목록에서도 제거
+	 */
+	public void deleteInNamespace(String namespace, String key) {
+		String namespaceKey = NAMESPACE_KEY_PREFIX + namespace;
+		redisObjectTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+				ops.delete(key);
+				ops.opsForSet().remove(namespaceKey, key);
+				return null;
+			}
+		});
+	}
+
 	/**
 	 * 캐시에서 데이터 조회
 	 */
@@ -47,13 +126,56 @@ public class RedisCacheUtil {
 	/**
 	 * 패턴과 일치하는 모든 키 삭제
 	 */
-	public void deletePattern(String pattern) {
-		Set<String> keys = redisObjectTemplate.keys(pattern);
-		if (keys != null && !keys.isEmpty()) {
-			redisObjectTemplate.delete(keys);
+	public CacheDeletionReport deletePattern(String pattern) {
+		return deletePattern(pattern, report -> log.debug("패턴 삭제 진행: {}", report));
+	}
+
+	/**
+	 * 패턴과 일치하는 모든 키 삭제 KEYS 대신 커서 기반 SCAN으로 나누어 조회하고, 배치 단위 UNLINK로 비동기 삭제하여 Redis를 블로킹하지 않음
+	 *
+	 * @param pattern          삭제할 키 패턴
+	 * @param progressListener 배치마다 호출되는 진행 상황 수신자
+	 * @return 삭제 결과 보고
+	 */
+	public CacheDeletionReport deletePattern(String pattern,
+			Consumer<CacheDeletionReport> progressListener) {
+		ScanOptions options = ScanOptions.scanOptions()
+				.match(pattern)
+				.count(scanBatchSize)
+				.build();
+
+		try (Cursor<String> cursor = redisObjectTemplate.scan(options)) {
+			return unlinkInBatches(pattern, "scan", cursor, progressListener);
 		}
 	}
 
+	/**
+	 * 네임스페이스에 등록된 모든 키 삭제 키 목록(Set)을 임시 키로 옮긴 뒤 SSCAN으로 나누어 삭제하므로, 삭제 중 새로 등록되는 키는 영향을 받지
+	 * 않음
+	 *
+	 * @param namespace 삭제할 네임스페이스
+	 * @return 삭제 결과 보고
+	 */
+	public CacheDeletionReport invalidateNamespace(String namespace) {
+		String namespaceKey = NAMESPACE_KEY_PREFIX + namespace;
+		String drainingKey = namespaceKey + ":draining:" + UUID.randomUUID();
+		Long renamed = redisObjectTemplate.execute(RENAME_IF_EXISTS_SCRIPT,
+				List.of(namespaceKey, drainingKey));
+		if (renamed == null || renamed == 0) {
+			// 이미 비어 있음 (만료되었거나 다른 서버가 먼저 비움)
+			return new CacheDeletionReport(namespace, 0, 0, 0, 0);
+		}
+
+		ScanOptions options = ScanOptions.scanOptions().count(scanBatchSize).build();
+		CacheDeletionReport report;
+		try (Cursor<Object> cursor = redisObjectTemplate.opsForSet().scan(drainingKey, options)) {
+			report = unlinkInBatches(namespace, "namespace", cursor,
+					progress -> log.debug("네임스페이스 삭제 진행: {}", progress));
+		}
+		redisObjectTemplate.unlink(drainingKey);
+		return report;
+	}
+
 	/**
 	 * 캐시 데이터 만료시간 설정
 	 */
@@ -67,4 +189,51 @@ public class RedisCacheUtil {
 	public long getExpire(String key, TimeUnit timeUnit) {
 		return redisObjectTemplate.getExpire(key, timeUnit);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 커서로 조회한 키를 배치 단위로 UNLINK하고 지표 기록
+	 */
+	private CacheDeletionReport unlinkInBatches(String target, String mode,
+			Cursor<?> cursor, Consumer<CacheDeletionReport> progressListener) {
+		long startNanos = System.nanoTime();
+		long scanned = 0;
+		long deleted = 0;
+		int batches = 0;
+		List<String> batch = new ArrayList<>(scanBatchSize);
+
+		while (cursor.hasNext()) {
+			batch.add(String.valueOf(cursor.next()));
+			scanned++;
+
+			if (batch.size() >= scanBatchSize) {
+				deleted += unlink(batch);
+				batches++;
+				batch.clear();
+				progressListener.accept(new CacheDeletionReport(target, scanned, deleted, batches,
+						elapsedMillis(startNanos)));
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			deleted += unlink(batch);
+			batches++;
+		}
+
+		CacheDeletionReport report = new CacheDeletionReport(target, scanned, deleted, batches,
+				elapsedMillis(startNanos));
+		meterRegistry.counter("redis.cache.invalidation.keys", "mode", mode).increment(deleted);
+		meterRegistry.timer("redis.cache.invalidation", "mode", mode)
+				.record(report.getElapsedMillis(), TimeUnit.MILLISECONDS);
+		log.info("캐시 일괄 삭제 완료: {}", report);
+		return report;
+	}
+
+	private long unlink(List<String> keys) {
+		Long unlinked = redisObjectTemplate.unlink(keys);
+		return unlinked != null ? unlinked : 0;
+	}
+
+	private long elapsedMillis(long startNanos) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+	}
+}
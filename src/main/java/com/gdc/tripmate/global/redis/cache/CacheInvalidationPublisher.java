@@ -0,0 +1,48 @@
+package com.gdc.tripmate.global.redis.cache;
+
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * L1 캐시 무효화 메시지 발행 메시지 형식: {발행 서버 ID}|{캐시 이름}|{키} (전체 삭제는 키 자리에 *)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationPublisher {
+
+	public static final String CHANNEL = "CACHE_INVALIDATION";
+	static final String CLEAR_ALL = "*";
+	static final String DELIMITER = "|";
+
+	// 자신이 보낸 메시지를 구분하기 위한 서버 ID
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	public void publishEvict(String cacheName, String cacheKey) {
+		publish(cacheName, cacheKey);
+	}
+
+	public void publishClear(String cacheName) {
+		publish(cacheName, CLEAR_ALL);
+	}
+
+	String getNodeId() {
+		return nodeId;
+	}
+
+	private void publish(String cacheName, String cacheKey) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL,
+					nodeId + DELIMITER + cacheName + DELIMITER + cacheKey);
+		} catch (Exception e) {
+			// 다른 서버의 L1은 TTL로 만료되므로 발행 실패는 기록만 함
+			log.warn("캐시 무효화 메시지 발행 실패: cache={}, key={}, error={}", cacheName, cacheKey,
+					e.getMessage());
+		}
+	}
+}
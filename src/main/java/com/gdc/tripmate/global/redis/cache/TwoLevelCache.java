@@ -0,0 +1,151 @@
+package com.gdc.tripmate.global.redis.cache;
+
+import com.gdc.tripmate.global.redis.RedisCacheUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * 2단계 캐시 로컬 힙(Caffeine, L1)을 먼저 조회하고, 없으면 Redis(L2)를 조회 쓰기/삭제 시 다른 서버의 L1은 Redis Pub/Sub으로 무효화
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+	private static final String REDIS_KEY_PREFIX = "CACHE:";
+
+	private final String name;
+	private final Cache<String, Object> localCache;
+	private final RedisCacheUtil redisCacheUtil;
+	private final CacheInvalidationPublisher invalidationPublisher;
+	private final Duration ttl;
+
+	public TwoLevelCache(String name, Cache<String, Object> localCache,
+			RedisCacheUtil redisCacheUtil, CacheInvalidationPublisher invalidationPublisher,
+			Duration ttl) {
+		super(false);
+		this.name = name;
+		this.localCache = localCache;
+		this.redisCacheUtil = redisCacheUtil;
+		this.invalidationPublisher = invalidationPublisher;
+		this.ttl = ttl;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return localCache;
+	}
+
+	@Override
+	protected Object lookup(Object key) {
+		String cacheKey = toCacheKey(key);
+		Object value = localCache.getIfPresent(cacheKey);
+		if (value != null) {
+			return value;
+		}
+
+		value = readRemote(cacheKey);
+		if (value != null) {
+			localCache.put(cacheKey, value);
+		}
+		return value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		String cacheKey = toCacheKey(key);
+		// 같은 키의 동시 적재는 Caffeine이 하나로 합쳐 처리
+		return (T) fromStoreValue(localCache.get(cacheKey, k -> {
+			Object remote = readRemote(k);
+			if (remote != null) {
+				return remote;
+			}
+
+			try {
+				Object loaded = toStoreValue(valueLoader.call());
+				writeRemote(k, loaded);
+				return loaded;
+			} catch (Exception e) {
+				throw new ValueRetrievalException(key, valueLoader, e);
+			}
+		}));
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		String cacheKey = toCacheKey(key);
+		Object storeValue = toStoreValue(value);
+		writeRemote(cacheKey, storeValue);
+		localCache.put(cacheKey, storeValue);
+		invalidationPublisher.publishEvict(name, cacheKey);
+	}
+
+	@Override
+	public void evict(Object key) {
+		String cacheKey = toCacheKey(key);
+		redisCacheUtil.deleteInNamespace(name, redisKey(cacheKey));
+		localCache.invalidate(cacheKey);
+		invalidationPublisher.publishEvict(name, cacheKey);
+	}
+
+	@Override
+	public void clear() {
+		redisCacheUtil.invalidateNamespace(name);
+		localCache.invalidateAll();
+		invalidationPublisher.publishClear(name);
+	}
+
+	/**
+	 * 다른 서버의 변경 알림으로 L1 항목만 제거
+	 */
+	void evictLocal(String cacheKey) {
+		localCache.invalidate(cacheKey);
+	}
+
+	/**
+	 * 다른 서버의 변경 알림으로 L1 전체 제거
+	 */
+	void clearLocal() {
+		localCache.invalidateAll();
+	}
+
+	private Object readRemote(String cacheKey) {
+		try {
+			return redisCacheUtil.get(redisKey(cacheKey), Object.class);
+		} catch (Exception e) {
+			// L2 장애 시에도 원본 조회로 동작하도록 캐시 미스로 처리
+			log.warn("Redis 캐시 조회 실패: cache={}, key={}, error={}", name, cacheKey,
+					e.getMessage());
+			return null;
+		}
+	}
+
+	private void writeRemote(String cacheKey, Object storeValue) {
+		try {
+			redisCacheUtil.putInNamespace(name, redisKey(cacheKey), storeValue,
+					ttl.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (Exception e) {
+			log.warn("Redis 캐시 저장 실패: cache={}, key={}, error={}", name, cacheKey,
+					e.getMessage());
+		}
+	}
+
+	private String redisKey(String cacheKey) {
+		return REDIS_KEY_PREFIX + name + ":" + cacheKey;
+	}
+
+	/**
+	 * 서버 간 무효화 메시지와 Redis 키에 함께 쓰기 위해 캐시 키를 문자열로 통일
+	 */
+	private String toCacheKey(Object key) {
+		return String.valueOf(key);
+	}
+}
@@ -0,0 +1,98 @@
+package com.gdc.tripmate.global.redis.cache;
+
+import com.gdc.tripmate.global.redis.RedisCacheUtil;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * 2단계 캐시 매니저 캐시 이름별로 TwoLevelCache를 생성하고, 다른 서버의 무효화 메시지를 받아 L1을 정리
+ * <p>
+ * 트랜잭션 안에서의 저장/삭제는 커밋 이후에 반영 (커밋 전 값이 다른 요청에 의해 다시 캐시되는 것을 방지)
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager
+		implements MessageListener {
+
+	private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+	private final RedisCacheUtil redisCacheUtil;
+	private final CacheInvalidationPublisher invalidationPublisher;
+	private final MeterRegistry meterRegistry;
+	private final long localMaximumSize;
+	private final Duration localTtl;
+	private final Duration remoteTtl;
+
+	public TwoLevelCacheManager(RedisCacheUtil redisCacheUtil,
+			CacheInvalidationPublisher invalidationPublisher, MeterRegistry meterRegistry,
+			long localMaximumSize, Duration localTtl, Duration remoteTtl) {
+		this.redisCacheUtil = redisCacheUtil;
+		this.invalidationPublisher = invalidationPublisher;
+		this.meterRegistry = meterRegistry;
+		this.localMaximumSize = localMaximumSize;
+		this.localTtl = localTtl;
+		this.remoteTtl = remoteTtl;
+		setTransactionAware(true);
+	}
+
+	@Override
+	protected Collection<? extends Cache> loadCaches() {
+		return List.of();
+	}
+
+	/**
+	 * 처음 요청된 캐시 이름이면 생성 (트랜잭션 데코레이터는 상위 클래스가 적용)
+	 */
+	@Override
+	protected Cache getMissingCache(String name) {
+		return caches.computeIfAbsent(name, this::createCache);
+	}
+
+	/**
+	 * 다른 서버의 캐시 무효화 메시지 수신
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody(), StandardCharsets.UTF_8)
+				.split("\\" + CacheInvalidationPublisher.DELIMITER, 3);
+		if (parts.length != 3 || invalidationPublisher.getNodeId().equals(parts[0])) {
+			return;
+		}
+
+		TwoLevelCache cache = caches.get(parts[1]);
+		if (cache == null) {
+			return;
+		}
+
+		if (CacheInvalidationPublisher.CLEAR_ALL.equals(parts[2])) {
+			cache.clearLocal();
+		} else {
+			cache.evictLocal(parts[2]);
+		}
+	}
+
+	private TwoLevelCache createCache(String name) {
+		com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+				.maximumSize(localMaximumSize)
+				.expireAfterWrite(localTtl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, name);
+
+		log.info("2단계 캐시 생성: name={}, L1 최대 {}개/{}, L2 {}", name, localMaximumSize, localTtl,
+				remoteTtl);
+		return new TwoLevelCache(name, localCache, redisCacheUtil, invalidationPublisher,
+				remoteTtl);
+	}
+}
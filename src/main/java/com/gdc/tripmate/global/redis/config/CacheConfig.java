@@ -0,0 +1,62 @@
+package com.gdc.tripmate.global.redis.config;
+
+import com.gdc.tripmate.global.redis.RedisCacheUtil;
+import com.gdc.tripmate.global.redis.cache.CacheInvalidationPublisher;
+import com.gdc.tripmate.global.redis.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 2단계(로컬 + Redis) 캐시 설정 @Cacheable 등 스프링 캐시 추상화에서 사용
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	@Value("${app.cache.local.maximum-size:10000}")
+	private long localMaximumSize;
+
+	@Value("${app.cache.local.ttl-seconds:60}")
+	private long localTtlSeconds;
+
+	@Value("${app.cache.remote.ttl-seconds:600}")
+	private long remoteTtlSeconds;
+
+	@Value("${spring.threads.virtual.enabled:false}")
+	private boolean virtualThreadsEnabled;
+
+	@Bean
+	public TwoLevelCacheManager cacheManager(RedisCacheUtil redisCacheUtil,
+			CacheInvalidationPublisher invalidationPublisher, MeterRegistry meterRegistry) {
+		return new TwoLevelCacheManager(redisCacheUtil, invalidationPublisher, meterRegistry,
+				localMaximumSize, Duration.ofSeconds(localTtlSeconds),
+				Duration.ofSeconds(remoteTtlSeconds));
+	}
+
+	/**
+	 * 서버 간 L1 캐시 무효화 메시지 수신 컨테이너
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(
+			RedisConnectionFactory redisConnectionFactory, TwoLevelCacheManager cacheManager) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		// 직접 만든 컨테이너는 스프링 부트의 가상 스레드 설정이 적용되지 않으므로 직접 지정
+		if (virtualThreadsEnabled) {
+			SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("redis-listener-");
+			taskExecutor.setVirtualThreads(true);
+			container.setTaskExecutor(taskExecutor);
+		}
+		container.addMessageListener(cacheManager,
+				new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+		return container;
+	}
+}
@@ -1,13 +1,35 @@
 package com.gdc.tripmate.global.redis.config;
 
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gdc.tripmate.domain.tag.dto.request.ProfileDto;
+import com.gdc.tripmate.global.redis.serializer.CompactRedisSerializer;
+import com.gdc.tripmate.global.redis.serializer.RedisTypeRegistry;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ClientOptions.DisconnectedBehavior;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettuceClientConfigurationBuilder;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection.PipeliningFlushPolicy;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -19,30 +41,176 @@ public class RedisConfig {
     
     @Value("${spring.data.redis.port}")
     private int redisPort;
-    
+
+    // 객체 값 직렬화 방식 (json: 클래스명 포함 JSON, compact: 타입 ID + Smile 바이너리)
+    @Value("${app.redis.serializer:json}")
+    private String valueSerializerType;
+
+    @Value("${app.redis.compression-threshold-bytes:1024}")
+    private int compressionThresholdBytes;
+
+    // 클라이언트 이벤트 루프 스레드 수 (0이면 CPU 코어 수 기준 기본값)
+    @Value("${app.redis.client.io-threads:0}")
+    private int ioThreads;
+
+    @Value("${app.redis.client.computation-threads:0}")
+    private int computationThreads;
+
+    @Value("${app.redis.client.command-timeout-millis:500}")
+    private long commandTimeoutMillis;
+
+    @Value("${app.redis.client.connect-timeout-millis:1000}")
+    private long connectTimeoutMillis;
+
+    @Value("${app.redis.client.shutdown-timeout-millis:100}")
+    private long shutdownTimeoutMillis;
+
+    // 파이프라인 실행 시 몇 개 명령마다 소켓에 내보낼지 (0 이하이면 명령마다 즉시 전송)
+    @Value("${app.redis.client.pipelining-flush-size:0}")
+    private int pipeliningFlushSize;
+
+    // upstream, replicaPreferred 등 Lettuce ReadFrom 이름
+    @Value("${app.redis.client.read-from:upstream}")
+    private String readFrom;
+
+    @Value("${app.redis.client.pool.enabled:false}")
+    private boolean poolEnabled;
+
+    @Value("${app.redis.client.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${app.redis.client.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${app.redis.client.pool.min-idle:2}")
+    private int poolMinIdle;
+
+    @Value("${app.redis.client.pool.max-wait-millis:200}")
+    private long poolMaxWaitMillis;
+
+    /**
+     * 모든 Redis 연결이 공유하는 이벤트 루프와 명령 지연시간 히스토그램 (lettuce.command.* 메트릭)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources(MeterRegistry meterRegistry) {
+        MicrometerOptions metricsOptions = MicrometerOptions.builder()
+                .histogram(true)
+                .build();
+
+        DefaultClientResources.Builder builder = DefaultClientResources.builder()
+                .commandLatencyRecorder(new MicrometerCommandLatencyRecorder(meterRegistry, metricsOptions));
+        if (ioThreads > 0) {
+            builder.ioThreadPoolSize(ioThreads);
+        }
+        if (computationThreads > 0) {
+            builder.computationThreadPoolSize(computationThreads);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 구체 타입으로 등록하여 리액티브 템플릿(ReactiveRedisConnectionFactory) 자동 구성도 함께 사용
+     */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisHost, redisPort);
+    public LettuceConnectionFactory redisConnectionFactory(ClientResources lettuceClientResources) {
+        RedisStandaloneConfiguration serverConfig = new RedisStandaloneConfiguration(redisHost, redisPort);
+
+        LettuceConnectionFactory connectionFactory =
+                new LettuceConnectionFactory(serverConfig, lettuceClientConfiguration(lettuceClientResources));
+        // 단일 공유 연결에 동시 요청을 다중화 (트랜잭션/블로킹 명령만 풀 연결 사용)
+        connectionFactory.setShareNativeConnection(true);
+        if (pipeliningFlushSize > 0) {
+            connectionFactory.setPipeliningFlushPolicy(PipeliningFlushPolicy.buffered(pipeliningFlushSize));
+        }
+        return connectionFactory;
     }
     
     @Bean
-    public RedisTemplate<String, String> redisTemplate() {
+    public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
         RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
         return redisTemplate;
     }
 
     @Bean
-    public RedisTemplate<String, Object> redisObjectTemplate() {
+    public RedisTemplate<String, Object> redisObjectTemplate(RedisConnectionFactory redisConnectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
-        template.setConnectionFactory(redisConnectionFactory());
+        template.setConnectionFactory(redisConnectionFactory);
+        RedisSerializer<Object> valueSerializer = objectValueSerializer();
+
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(valueSerializer);
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setHashValueSerializer(valueSerializer);
         template.afterPropertiesSet();
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * 명령 타임아웃, 연결 끊김 시 즉시 실패, 선택적 연결 풀 및 레플리카 읽기 설정
+     */
+    private LettuceClientConfiguration lettuceClientConfiguration(ClientResources clientResources) {
+        ClientOptions clientOptions = ClientOptions.builder()
+                .autoReconnect(true)
+                // 재연결 중 명령을 쌓아두지 않고 바로 실패시켜 인증 요청이 타임아웃까지 대기하지 않도록 함
+                .disconnectedBehavior(DisconnectedBehavior.REJECT_COMMANDS)
+                .socketOptions(SocketOptions.builder()
+                        .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                        .keepAlive(true)
+                        .build())
+                .timeoutOptions(TimeoutOptions.enabled(Duration.ofMillis(commandTimeoutMillis)))
+                .build();
+
+        LettuceClientConfigurationBuilder builder = poolEnabled
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig())
+                : LettuceClientConfiguration.builder();
+
+        builder.clientResources(clientResources)
+                .clientOptions(clientOptions)
+                .commandTimeout(Duration.ofMillis(commandTimeoutMillis))
+                .shutdownTimeout(Duration.ofMillis(shutdownTimeoutMillis));
+
+        if (!"upstream".equalsIgnoreCase(readFrom)) {
+            builder.readFrom(ReadFrom.valueOf(readFrom));
+        }
+        return builder.build();
+    }
+
+    private GenericObjectPoolConfig<?> poolConfig() {
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(Duration.ofMillis(poolMaxWaitMillis));
+        return poolConfig;
+    }
+
+    /**
+     * 객체 값 직렬화기 생성 compact 방식도 기존 JSON 값은 읽을 수 있으므로 무중단 전환 가능
+     */
+    private RedisSerializer<Object> objectValueSerializer() {
+        // LocalDate 등 날짜 타입을 포함한 DTO 캐싱을 위해 JavaTimeModule 등록
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+        jsonSerializer.configure(mapper -> mapper.registerModule(new JavaTimeModule()));
+
+        if (!"compact".equalsIgnoreCase(valueSerializerType)) {
+            return jsonSerializer;
+        }
+        return new CompactRedisSerializer(redisTypeRegistry(), jsonSerializer, compressionThresholdBytes);
+    }
+
+    /**
+     * Redis에 저장하는 애플리케이션 DTO 타입 등록 (ID는 변경하지 말고 새 타입은 다음 번호로 추가)
+     * <p>
+     * 직렬화 테스트와 벤치마크도 이 목록을 그대로 사용
+     */
+    public static RedisTypeRegistry redisTypeRegistry() {
+        return new RedisTypeRegistry()
+                .register(100, ProfileDto.class);
+    }
+}
@@ -0,0 +1,206 @@
+package com.gdc.tripmate.global.redis.serializer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 타입 등록 기반 압축 바이너리 직렬화기 (Smile + 선택적 LZ4)
+ * <p>
+ * 형식: [매직 바이트][플래그][타입 ID(varint)][원소 타입 ID(varint, 플래그가 있을 때만)][본문] 압축 시 본문은 [원본 길이(varint)][LZ4 블록]
+ * 매직 바이트로 시작하지 않는 값은 기존 JSON 직렬화기로 읽으므로, 전환 전에 저장된 값도 그대로 조회 가능
+ * <p>
+ * 컬렉션은 원소 타입을 함께 기록해 DTO 원소도 그대로 복원하고, 원소 타입을 기록할 수 없는 곳(Map 값, 여러 타입이 섞인 컬렉션)의 DTO는 저장 시 거부
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+	// JSON 문서의 첫 바이트로 나올 수 없는 값
+	static final byte MAGIC = (byte) 0xC7;
+	private static final byte FLAG_COMPRESSED = 0x01;
+	private static final byte FLAG_ELEMENT_TYPE = 0x02;
+	private static final byte[] EMPTY = new byte[0];
+
+	private final ObjectMapper smileMapper;
+	private final RedisTypeRegistry typeRegistry;
+	private final RedisSerializer<Object> fallbackSerializer;
+	private final int compressionThresholdBytes;
+	private final LZ4Compressor compressor;
+	private final LZ4FastDecompressor decompressor;
+
+	/**
+	 * @param typeRegistry              값 타입 등록부
+	 * @param fallbackSerializer        이 형식이 아닌 기존 값을 읽을 직렬화기
+	 * @param compressionThresholdBytes 이 크기 이상인 본문만 LZ4 압축 (0 이하이면 압축하지 않음)
+	 */
+	public CompactRedisSerializer(RedisTypeRegistry typeRegistry,
+			RedisSerializer<Object> fallbackSerializer, int compressionThresholdBytes) {
+		this.smileMapper = SmileMapper.builder()
+				.addModule(new JavaTimeModule())
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+				.build();
+		this.typeRegistry = typeRegistry;
+		this.fallbackSerializer = fallbackSerializer;
+		this.compressionThresholdBytes = compressionThresholdBytes;
+
+		LZ4Factory lz4Factory = LZ4Factory.fastestInstance();
+		this.compressor = lz4Factory.fastCompressor();
+		this.decompressor = lz4Factory.fastDecompressor();
+	}
+
+	@Override
+	public byte[] serialize(Object value) throws SerializationException {
+		if (value == null) {
+			return EMPTY;
+		}
+
+		Integer typeId = typeRegistry.idOf(value.getClass());
+		if (typeId == null) {
+			throw new SerializationException("Redis 값 타입이 등록되지 않았습니다: " + value.getClass());
+		}
+
+		Integer elementTypeId = null;
+		if (value instanceof Collection<?> collection) {
+			elementTypeId = elementTypeId(collection);
+		} else if (value instanceof Map<?, ?> map) {
+			requireUntypedValues(map.values());
+		}
+
+		try {
+			byte[] body = smileMapper.writeValueAsBytes(value);
+			boolean compress = compressionThresholdBytes > 0 && body.length >= compressionThresholdBytes;
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream(body.length + 8);
+			out.write(MAGIC);
+			out.write((compress ? FLAG_COMPRESSED : 0) | (elementTypeId != null ? FLAG_ELEMENT_TYPE : 0));
+			writeVarInt(out, typeId);
+			if (elementTypeId != null) {
+				writeVarInt(out, elementTypeId);
+			}
+
+			if (compress) {
+				writeVarInt(out, body.length);
+				out.write(compressor.compress(body));
+			} else {
+				out.write(body);
+			}
+			return out.toByteArray();
+		} catch (IOException e) {
+			throw new SerializationException("Redis 값 직렬화에 실패했습니다: " + value.getClass(), e);
+		}
+	}
+
+	@Override
+	public Object deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+		if (bytes[0] != MAGIC) {
+			return fallbackSerializer.deserialize(bytes);
+		}
+
+		try {
+			boolean compressed = (bytes[1] & FLAG_COMPRESSED) != 0;
+			int[] position = {2};
+			JavaType type = smileMapper.constructType(typeRegistry.typeOf(readVarInt(bytes, position)));
+			if ((bytes[1] & FLAG_ELEMENT_TYPE) != 0) {
+				Class<?> elementType = typeRegistry.typeOf(readVarInt(bytes, position));
+				type = smileMapper.getTypeFactory().constructCollectionLikeType(type.getRawClass(), elementType);
+			}
+
+			if (compressed) {
+				int originalLength = readVarInt(bytes, position);
+				byte[] body = new byte[originalLength];
+				decompressor.decompress(bytes, position[0], body, 0, originalLength);
+				return smileMapper.readValue(body, type);
+			}
+			return smileMapper.readValue(bytes, position[0], bytes.length - position[0], type);
+		} catch (IOException | RuntimeException e) {
+			throw new SerializationException("Redis 값 역직렬화에 실패했습니다.", e);
+		}
+	}
+
+	/**
+	 * 컬렉션 원소 타입 ID 원소가 모두 같은 타입일 때만 기록하고, 여러 타입이 섞이면 DTO 원소가 없는 경우에만 타입 없이 저장
+	 *
+	 * @return 원소 타입 ID, 비어 있거나 여러 타입이 섞여 기록하지 않으면 null
+	 */
+	private Integer elementTypeId(Collection<?> collection) {
+		Class<?> elementType = null;
+		for (Object element : collection) {
+			if (element == null) {
+				continue;
+			}
+			if (elementType == null) {
+				elementType = element.getClass();
+			} else if (elementType != element.getClass()) {
+				requireUntypedValues(collection);
+				return null;
+			}
+		}
+		if (elementType == null) {
+			return null;
+		}
+
+		Integer elementTypeId = typeRegistry.idOf(elementType);
+		if (elementTypeId == null) {
+			throw new SerializationException("Redis 컬렉션 원소 타입이 등록되지 않았습니다: " + elementType);
+		}
+		// 중첩 컬렉션/Map의 원소는 타입 정보 없이 읽히므로 DTO가 없어야 함
+		if (Collection.class.isAssignableFrom(elementType) || Map.class.isAssignableFrom(elementType)) {
+			requireUntypedValues(collection);
+		}
+		return elementTypeId;
+	}
+
+	/**
+	 * 타입 정보 없이 읽힐 값 확인 DTO는 Map으로 복원되어 캐시 조회 시 형변환 오류가 나므로 저장 시점에 거부
+	 */
+	private void requireUntypedValues(Collection<?> values) {
+		for (Object value : values) {
+			if (value == null) {
+				continue;
+			}
+			if (value instanceof Map<?, ?> map) {
+				requireUntypedValues(map.values());
+			} else if (value instanceof Collection<?> collection) {
+				requireUntypedValues(collection);
+			} else if (typeRegistry.isApplicationType(value.getClass())) {
+				throw new SerializationException("Map 값이나 여러 타입이 섞인 컬렉션에는 DTO를 저장할 수 없습니다 "
+						+ "(같은 DTO 타입의 컬렉션으로 저장하거나 DTO로 감싸서 저장): " + value.getClass());
+			}
+		}
+	}
+
+	private static void writeVarInt(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	private static int readVarInt(byte[] bytes, int[] position) {
+		int value = 0;
+		int shift = 0;
+		byte current;
+		do {
+			current = bytes[position[0]++];
+			value |= (current & 0x7F) << shift;
+			shift += 7;
+		} while ((current & 0x80) != 0);
+		return value;
+	}
+}
@@ -0,0 +1,100 @@
+package com.gdc.tripmate.global.redis.serializer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 값 타입 등록부 클래스 이름 대신 작은 정수 ID를 기록하여 값마다 붙는 타입 정보를 줄임
+ */
+public class RedisTypeRegistry {
+
+	// 애플리케이션 타입(DTO) ID 시작 번호
+	public static final int APPLICATION_TYPE_START = 100;
+
+	private final Map<Integer, Class<?>> typesById = new HashMap<>();
+	private final Map<Class<?>, Integer> idsByType = new HashMap<>();
+
+	// 하위 타입(불변 컬렉션, ObjectNode 등) 조회 결과 캐시
+	private final Map<Class<?>, Integer> resolvedIds = new ConcurrentHashMap<>();
+
+	public RedisTypeRegistry() {
+		// 기본 타입 (1~99), 애플리케이션 타입은 APPLICATION_TYPE_START 이후 사용
+		register(1, String.class);
+		register(2, Long.class);
+		register(3, Integer.class);
+		register(4, Boolean.class);
+		register(5, Double.class);
+		register(6, LinkedHashMap.class);
+		register(7, ArrayList.class);
+		register(8, LinkedHashSet.class);
+		register(9, JsonNode.class);
+	}
+
+	/**
+	 * 타입 등록 ID는 한 번 배포된 뒤 바꾸면 기존 값을 읽을 수 없으므로 고정해서 사용
+	 */
+	public RedisTypeRegistry register(int id, Class<?> type) {
+		if (typesById.containsKey(id) || idsByType.containsKey(type)) {
+			throw new IllegalArgumentException("이미 등록된 타입 ID 또는 타입입니다: " + id + ", " + type);
+		}
+		typesById.put(id, type);
+		idsByType.put(type, id);
+		return this;
+	}
+
+	/**
+	 * 값의 타입 ID 조회 등록되지 않은 구체 컬렉션/JSON 타입은 대응하는 기본 타입으로 기록
+	 *
+	 * @return 타입 ID, 등록되지 않은 타입이면 null
+	 */
+	public Integer idOf(Class<?> type) {
+		Integer id = idsByType.get(type);
+		if (id != null) {
+			return id;
+		}
+		return resolvedIds.computeIfAbsent(type, this::resolveSupertypeId);
+	}
+
+	/**
+	 * 애플리케이션 타입(DTO) 여부 타입 정보 없이 읽으면 Map으로 복원되는 타입
+	 */
+	public boolean isApplicationType(Class<?> type) {
+		Integer id = idOf(type);
+		return id != null && id >= APPLICATION_TYPE_START;
+	}
+
+	/**
+	 * 타입 ID로 역직렬화할 타입 조회
+	 */
+	public Class<?> typeOf(int id) {
+		Class<?> type = typesById.get(id);
+		if (type == null) {
+			throw new IllegalArgumentException("등록되지 않은 타입 ID입니다: " + id);
+		}
+		return type;
+	}
+
+	private Integer resolveSupertypeId(Class<?> type) {
+		if (JsonNode.class.isAssignableFrom(type)) {
+			return idsByType.get(JsonNode.class);
+		}
+		if (Map.class.isAssignableFrom(type)) {
+			return idsByType.get(LinkedHashMap.class);
+		}
+		if (List.class.isAssignableFrom(type)) {
+			return idsByType.get(ArrayList.class);
+		}
+		if (Set.class.isAssignableFrom(type)) {
+			return idsByType.get(LinkedHashSet.class);
+		}
+		// computeIfAbsent는 null을 저장하지 않으므로 다음 조회 시 다시 확인
+		return null;
+	}
+}
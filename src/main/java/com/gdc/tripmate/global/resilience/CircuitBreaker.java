@@ -0,0 +1,224 @@
+package com.gdc.tripmate.global.resilience;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+
+/**
+ * 횟수 기반 슬라이딩 윈도우 서킷 브레이커
+ * <p>
+ * 최근 호출 중 실패 비율이 임계값을 넘으면 OPEN, 대기 시간이 지나면 HALF_OPEN에서 시험 호출만 허용하고 결과에 따라 CLOSED/OPEN으로 전환
+ */
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	@Getter
+	private final String name;
+	private final int windowSize;
+	private final int minimumCalls;
+	private final double failureRateThreshold;
+	private final long openDurationNanos;
+	private final int halfOpenTrialCalls;
+	private final LongSupplier nanoClock;
+	private final StateListener listener;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	// 최근 호출 결과 링 버퍼 (true = 실패)
+	private final boolean[] outcomes;
+	private int position;
+	private int recordedCalls;
+	private int failedCalls;
+
+	private volatile State state = State.CLOSED;
+	private long openedAt;
+	private int halfOpenPermits;
+	private int halfOpenSuccesses;
+	// 상태가 바뀔 때마다 증가 이전 세대 허가의 결과는 무시
+	private long generation;
+
+	public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+			long openDurationMillis, int halfOpenTrialCalls, StateListener listener) {
+		this(name, windowSize, minimumCalls, failureRateThreshold, openDurationMillis,
+				halfOpenTrialCalls, listener, System::nanoTime);
+	}
+
+	CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+			long openDurationMillis, int halfOpenTrialCalls, StateListener listener,
+			LongSupplier nanoClock) {
+		this.name = name;
+		this.windowSize = windowSize;
+		this.minimumCalls = minimumCalls;
+		this.failureRateThreshold = failureRateThreshold;
+		this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+		this.halfOpenTrialCalls = halfOpenTrialCalls;
+		this.listener = listener;
+		this.nanoClock = nanoClock;
+		this.outcomes = new boolean[windowSize];
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	/**
+	 * 호출 허용 여부 허용된 호출은 반환된 허가로 onSuccess/onFailure/release 중 하나를 반드시 기록
+	 * <p>
+	 * 허가는 발급 당시 상태 세대에 묶여 있어 상태가 바뀐 뒤 도착한 결과는 새 상태 집계에 섞이지 않음
+	 */
+	public Optional<Permission> tryAcquirePermission() {
+		lock.lock();
+		try {
+			if (state == State.OPEN) {
+				if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+					return Optional.empty();
+				}
+				transitionTo(State.HALF_OPEN);
+			}
+			if (state == State.HALF_OPEN) {
+				if (halfOpenPermits >= halfOpenTrialCalls) {
+					return Optional.empty();
+				}
+				halfOpenPermits++;
+			}
+			return Optional.of(new Permission(generation));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void onSuccess(long permittedGeneration) {
+		lock.lock();
+		try {
+			if (permittedGeneration != generation) {
+				return;
+			}
+			if (state == State.HALF_OPEN) {
+				if (++halfOpenSuccesses >= halfOpenTrialCalls) {
+					transitionTo(State.CLOSED);
+				}
+				return;
+			}
+			record(false);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void onFailure(long permittedGeneration) {
+		lock.lock();
+		try {
+			if (permittedGeneration != generation) {
+				return;
+			}
+			if (state == State.HALF_OPEN) {
+				// 시험 호출이 하나라도 실패하면 다시 차단
+				transitionTo(State.OPEN);
+				return;
+			}
+			record(true);
+			if (state == State.CLOSED && recordedCalls >= minimumCalls
+					&& (double) failedCalls / recordedCalls >= failureRateThreshold) {
+				transitionTo(State.OPEN);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void release(long permittedGeneration) {
+		lock.lock();
+		try {
+			// 같은 세대의 시험 호출 자리만 반환
+			if (permittedGeneration == generation && state == State.HALF_OPEN && halfOpenPermits > 0) {
+				halfOpenPermits--;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void record(boolean failed) {
+		if (recordedCalls == windowSize) {
+			if (outcomes[position]) {
+				failedCalls--;
+			}
+		} else {
+			recordedCalls++;
+		}
+		outcomes[position] = failed;
+		if (failed) {
+			failedCalls++;
+		}
+		position = (position + 1) % windowSize;
+	}
+
+	private void transitionTo(State next) {
+		State previous = state;
+		state = next;
+		generation++;
+		if (next == State.OPEN) {
+			openedAt = nanoClock.getAsLong();
+		}
+		if (next == State.HALF_OPEN) {
+			halfOpenPermits = 0;
+			halfOpenSuccesses = 0;
+		}
+		if (next == State.CLOSED) {
+			// 차단 전 실패 기록은 버리고 새로 집계
+			position = 0;
+			recordedCalls = 0;
+			failedCalls = 0;
+		}
+		listener.onStateChange(this, previous, next);
+	}
+
+	/**
+	 * 호출 허가 결과는 한 번만 반영되고, 발급 이후 상태가 바뀌었다면 무시
+	 */
+	public class Permission {
+
+		private final long generation;
+		private final AtomicBoolean settled = new AtomicBoolean();
+
+		private Permission(long generation) {
+			this.generation = generation;
+		}
+
+		public void onSuccess() {
+			if (settled.compareAndSet(false, true)) {
+				CircuitBreaker.this.onSuccess(generation);
+			}
+		}
+
+		public void onFailure() {
+			if (settled.compareAndSet(false, true)) {
+				CircuitBreaker.this.onFailure(generation);
+			}
+		}
+
+		/**
+		 * 결과 없이 끝난 호출(취소 등)의 허가 반환 시험 호출 자리를 다른 요청이 쓸 수 있도록 함
+		 */
+		public void release() {
+			if (settled.compareAndSet(false, true)) {
+				CircuitBreaker.this.release(generation);
+			}
+		}
+	}
+
+	/**
+	 * 상태 전환 알림 (메트릭/로그 기록용)
+	 */
+	@FunctionalInterface
+	public interface StateListener {
+
+		void onStateChange(CircuitBreaker circuitBreaker, State from, State to);
+	}
+}
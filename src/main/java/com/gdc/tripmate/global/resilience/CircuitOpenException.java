@@ -0,0 +1,11 @@
+package com.gdc.tripmate.global.resilience;
+
+/**
+ * 서킷 브레이커가 열려 있어 호출을 보내지 않은 경우 발생하는 예외
+ */
+public class CircuitOpenException extends RuntimeException {
+
+	public CircuitOpenException(String name) {
+		super("외부 서비스 호출이 일시적으로 차단되었습니다: " + name);
+	}
+}
@@ -0,0 +1,50 @@
+package com.gdc.tripmate.global.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 예산 일반 요청마다 일정 비율의 토큰을 적립하고 재시도/헤지 요청은 토큰 1개를 사용
+ * <p>
+ * 장애 상황에서 재시도가 원래 요청량의 일정 비율을 넘지 않도록 하여 재시도 폭주로 인한 부하 증폭 방지
+ */
+public class RetryBudget {
+
+	// 소수 비율을 정수로 다루기 위한 배율
+	private static final long SCALE = 1000;
+
+	private final long depositPerRequest;
+	private final long maxBalance;
+	private final AtomicLong balance;
+
+	/**
+	 * @param retryRatio 요청 대비 허용 재시도 비율 (예: 0.2 = 요청 10건당 재시도 2건)
+	 * @param maxBurst   한 번에 쓸 수 있는 최대 재시도 수 (시작 잔액이자 잔액 상한)
+	 */
+	public RetryBudget(double retryRatio, int maxBurst) {
+		this.depositPerRequest = Math.round(retryRatio * SCALE);
+		this.maxBalance = Math.max(maxBurst, 0) * SCALE;
+		this.balance = new AtomicLong(maxBalance);
+	}
+
+	/**
+	 * 일반 요청 발생 시 토큰 적립
+	 */
+	public void deposit() {
+		balance.accumulateAndGet(depositPerRequest, (current, amount) -> Math.min(maxBalance, current + amount));
+	}
+
+	/**
+	 * 재시도 토큰 사용 잔액이 부족하면 false
+	 */
+	public boolean tryWithdraw() {
+		while (true) {
+			long current = balance.get();
+			if (current < SCALE) {
+				return false;
+			}
+			if (balance.compareAndSet(current, current - SCALE)) {
+				return true;
+			}
+		}
+	}
+}
@@ -4,11 +4,13 @@ package com.gdc.tripmate.global.security;
 import com.gdc.tripmate.domain.user.service.CookieService;
 import com.gdc.tripmate.domain.user.service.CustomOAuth2UserService;
 import com.gdc.tripmate.domain.user.service.SessionService;
+import com.gdc.tripmate.domain.user.service.UserRevocationService;
 import com.gdc.tripmate.global.security.customUser.CustomAuthenticationEntryPoint;
 import com.gdc.tripmate.global.security.customUser.CustomUserDetailsService;
 import com.gdc.tripmate.global.security.jwt.JwtAuthenticationFilter;
 import com.gdc.tripmate.global.security.jwt.JwtTokenProvider;
 import com.gdc.tripmate.global.security.oauth.OAuth2SuccessHandler;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -39,6 +41,7 @@ public class SecurityConfig {
 	private final CustomUserDetailsService customUserDetailsService;
 	private final SessionService sessionService;
 	private final CookieService cookieService;
+	private final UserRevocationService userRevocationService;
 	private final CorsConfigurationSource corsConfigurationSource;  // Use @Primary bean from WebConfig
 
 	/**
@@ -64,18 +67,23 @@ public class SecurityConfig {
 
 				// URL 기반 권한 설정
 				.authorizeHttpRequests(authorize -> authorize
+						// 비동기 응답(Mono 등)의 재디스패치는 최초 요청에서 이미 인가됨
+						.dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
 						// 기존 허용 경로
 						.requestMatchers("/api/auth/**", "/oauth2/**", "/login/**").permitAll()
 						// 전화번호 인증 API 경로 허용 추가
 						.requestMatchers("/api/phone/**", "/api/phone/sendVerification",
 								"/api/phone/verifyCode").permitAll()
 						// 프로필 관련 공개 API 경로 허용
-						.requestMatchers("/api/user/nickname", "/api/tags").permitAll()
+						.requestMatchers("/api/user/nickname", "/api/tags", "/api/tags/popular",
+								"/api/tags/search").permitAll()
 						// 정적 리소스 접근 허용 (프로필 이미지 등)
 						.requestMatchers("/files/**").permitAll()
 						// userId가 경로에 포함된 API도 허용
 						.requestMatchers("/api/users/*/verifyPhone").permitAll()
 						.requestMatchers("/api/admin/**").hasRole("ADMIN")
+						// 운영 지표(캐시 적중률 등)는 관리자만 조회
+						.requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasRole("ADMIN")
 						.anyRequest().authenticated())
 
 				// OAuth2 로그인 설정
@@ -96,7 +104,7 @@ public class SecurityConfig {
 	@Bean
 	public JwtAuthenticationFilter jwtAuthenticationFilter() {
 		return new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService,
-				sessionService, cookieService);
+				sessionService, cookieService, userRevocationService);
 	}
 
 	/**
@@ -2,7 +2,15 @@ package com.gdc.tripmate.global.security.customUser;
 
 import com.gdc.tripmate.domain.user.entity.User;
 import com.gdc.tripmate.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -16,9 +24,56 @@ import java.util.stream.Collectors;
 public class CustomUserDetailsService implements UserDetailsService {
 
 	private final UserRepository userRepository;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${app.security.user-details-cache.maximum-size:10000}")
+	private long cacheMaximumSize;
+
+	@Value("${app.security.user-details-cache.ttl-seconds:300}")
+	private long cacheTtlSeconds;
+
+	// 이메일 기준 인증 주체 로컬 캐시 (Caffeine W-TinyLFU)
+	private Cache<String, UserDetails> userDetailsCache;
+
+	@PostConstruct
+	public void init() {
+		this.userDetailsCache = Caffeine.newBuilder()
+				.maximumSize(cacheMaximumSize)
+				.expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, userDetailsCache, "userDetails");
+	}
 
 	@Override
 	public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+		return userDetailsCache.get(email, this::loadFromDatabase);
+	}
+
+	/**
+	 * 캐시된 인증 주체 제거 (사용자 정보 변경 시 호출)
+	 */
+	public void evict(String email) {
+		if (email != null) {
+			userDetailsCache.invalidate(email);
+		}
+	}
+
+	/**
+	 * 캐시된 인증 주체 전체 제거
+	 */
+	public void evictAll() {
+		userDetailsCache.invalidateAll();
+	}
+
+	/**
+	 * 캐시 적중/미스/제거 통계 조회
+	 */
+	public CacheStats getCacheStats() {
+		return userDetailsCache.stats();
+	}
+
+	private UserDetails loadFromDatabase(String email) {
 		User user = userRepository.findByEmail(email)
 				.orElseThrow(
 						() -> new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email));
@@ -32,4 +87,4 @@ public class CustomUserDetailsService implements UserDetailsService {
 				user.getId()
 		);
 	}
-}
\ No newline at end of file
+}
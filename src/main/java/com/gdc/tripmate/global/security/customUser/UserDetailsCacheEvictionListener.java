@@ -0,0 +1,94 @@
+package com.gdc.tripmate.global.security.customUser;
+
+import com.gdc.tripmate.domain.match.service.MatchIndexManager;
+import com.gdc.tripmate.domain.tag.entity.UserProfile;
+import com.gdc.tripmate.domain.user.entity.User;
+import com.gdc.tripmate.domain.user.service.SessionService;
+import com.gdc.tripmate.domain.user.service.UserRevocationService;
+import com.gdc.tripmate.domain.user.status.Status;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 엔티티 변경 시 인증 주체 캐시를 무효화하는 JPA 엔티티 리스너 트랜잭션 커밋 이후에 무효화하여 커밋 전 값이 다시 캐시되는 것을 방지
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCacheEvictionListener {
+
+	// EntityManagerFactory 초기화 시점의 순환 참조를 피하기 위해 지연 조회
+	private final ObjectProvider<CustomUserDetailsService> userDetailsServiceProvider;
+	private final ObjectProvider<UserRevocationService> userRevocationServiceProvider;
+	private final ObjectProvider<SessionService> sessionServiceProvider;
+	private final ObjectProvider<MatchIndexManager> matchIndexManagerProvider;
+
+	@PostUpdate
+	public void onUpdate(User user) {
+		// 커밋 이후에는 영속성 컨텍스트가 닫힐 수 있으므로 프로필 ID는 미리 확인
+		Long profileId = profileIdOf(user);
+		afterCommit(() -> {
+			userDetailsServiceProvider.getObject().evict(user.getEmail());
+			syncRevocation(user);
+			syncMatchIndex(profileId);
+		});
+	}
+
+	@PostRemove
+	public void onRemove(User user) {
+		Long profileId = profileIdOf(user);
+		afterCommit(() -> {
+			userDetailsServiceProvider.getObject().evict(user.getEmail());
+			userRevocationServiceProvider.getObject().revoke(user.getId());
+			sessionServiceProvider.getObject().removeAllSessions(user.getEmail());
+			syncMatchIndex(profileId);
+		});
+	}
+
+	/**
+	 * 정지/삭제된 사용자는 차단 등록 후 모든 세션 제거 (리프레시 토큰으로 재발급 방지), 다시 활성화된 사용자는 차단 해제
+	 */
+	private void syncRevocation(User user) {
+		UserRevocationService revocationService = userRevocationServiceProvider.getObject();
+		boolean blocked = user.getStatus() == Status.SUSPENDED || user.getStatus() == Status.DELETED;
+
+		if (blocked) {
+			revocationService.revoke(user.getId());
+			sessionServiceProvider.getObject().removeAllSessions(user.getEmail());
+		} else if (revocationService.isRevoked(user.getId())) {
+			revocationService.restore(user.getId());
+		}
+	}
+
+	/**
+	 * 매칭 색인에 변경 알림 - 각 서버가 DB를 다시 읽어 정지/삭제된 사용자는 매칭 대상에서 제외, 다시 활성화되면 포함
+	 */
+	private void syncMatchIndex(Long profileId) {
+		if (profileId != null) {
+			matchIndexManagerProvider.getObject().publish(profileId);
+		}
+	}
+
+	private Long profileIdOf(User user) {
+		UserProfile profile = user.getProfile();
+		return profile != null ? profile.getId() : null;
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
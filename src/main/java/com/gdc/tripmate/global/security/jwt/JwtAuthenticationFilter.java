@@ -4,15 +4,21 @@ package com.gdc.tripmate.global.security.jwt;
 import com.gdc.tripmate.domain.user.dto.AuthResult;
 import com.gdc.tripmate.domain.user.service.CookieService;
 import com.gdc.tripmate.domain.user.service.SessionService;
+import com.gdc.tripmate.domain.user.service.UserRevocationService;
+import com.gdc.tripmate.global.security.customUser.CustomUserDetails;
 import com.gdc.tripmate.global.security.customUser.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -30,6 +36,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private final CustomUserDetailsService userDetailsService;
 	private final SessionService sessionService;
 	private final CookieService cookieService;
+	private final UserRevocationService userRevocationService;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -67,10 +74,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	 */
 	private void processToken(String token, HttpServletRequest request,
 			HttpServletResponse response) {
-		// 토큰 유효성 검증
-		if (jwtTokenProvider.validateToken(token)) {
+		// 토큰 유효성 검증 (검증과 클레임 추출을 한 번의 파싱으로 처리)
+		Claims claims = jwtTokenProvider.resolveClaims(token);
+		if (claims != null) {
 			// 유효한 토큰은 인증 처리
-			authenticateUser(token, request);
+			authenticateUser(claims, request);
 		} else {
 			// 유효하지 않은 토큰은 리프레시 시도
 			refreshToken(request, response);
@@ -80,10 +88,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	/**
 	 * 사용자 인증 처리
 	 */
-	private void authenticateUser(String token, HttpServletRequest request) {
+	private void authenticateUser(Claims claims, HttpServletRequest request) {
 		try {
-			String email = jwtTokenProvider.getEmailFromToken(token);
-			UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+			UserDetails userDetails = loadUserDetails(claims);
+			if (userDetails == null) {
+				return;
+			}
 
 			UsernamePasswordAuthenticationToken authentication =
 					new UsernamePasswordAuthenticationToken(userDetails, null,
@@ -96,6 +106,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		}
 	}
 
+	/**
+	 * 인증 주체 구성 무상태 모드에서는 클레임으로 직접 구성하고, 그 외에는 DB에서 조회
+	 */
+	private UserDetails loadUserDetails(Claims claims) {
+		Object userIdClaim = claims.get(JwtTokenProvider.USER_ID_CLAIM);
+		if (!jwtTokenProvider.isStatelessPrincipalEnabled() || !(userIdClaim instanceof Number)) {
+			return userDetailsService.loadUserByUsername(claims.getSubject());
+		}
+
+		Long userId = ((Number) userIdClaim).longValue();
+		if (userRevocationService.isRevoked(userId)) {
+			log.warn("차단된 사용자의 토큰 사용 시도: userId={}", userId);
+			return null;
+		}
+
+		Object rolesClaim = claims.get(JwtTokenProvider.ROLES_CLAIM);
+		Collection<?> roles = rolesClaim instanceof Collection<?> ? (Collection<?>) rolesClaim
+				: List.of();
+
+		return new CustomUserDetails(
+				claims.getSubject(),
+				"", // OAuth2 로그인으로 비밀번호 필요 없음
+				roles.stream()
+						.map(role -> new SimpleGrantedAuthority(role.toString()))
+						.toList(),
+				userId
+		);
+	}
+
 	/**
 	 * 토큰 리프레시 시도
 	 */
@@ -110,7 +149,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 				if (refreshResult.isSuccess()) {
 					// 리프레시 성공 시 새 액세스 토큰으로 인증 처리
-					authenticateUser(refreshResult.getAccessToken(), request);
+					Claims claims = jwtTokenProvider.resolveClaims(refreshResult.getAccessToken());
+					if (claims != null) {
+						authenticateUser(claims, request);
+					}
 				}
 			}
 		} catch (Exception e) {
@@ -0,0 +1,83 @@
+package com.gdc.tripmate.global.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 캐시 토큰 문자열의 해시를 키로 사용하며, 각 항목은 토큰의 exp 시각에 맞춰 만료된다
+ */
+class JwtClaimsCache {
+
+	private final Cache<String, Claims> cache;
+
+	JwtClaimsCache(long maximumSize) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new ClaimsExpiry())
+				.build();
+	}
+
+	/**
+	 * 캐시된 클레임 조회, 없으면 파싱 함수로 검증 후 저장
+	 */
+	Claims get(String token, Function<String, Claims> parser) {
+		String key = hash(token);
+		Claims cached = cache.getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		Claims claims = parser.apply(token);
+		if (claims.getExpiration() != null) {
+			cache.put(key, claims);
+		}
+		return claims;
+	}
+
+	/**
+	 * 토큰 원문 대신 SHA-256 해시를 키로 사용 (메모리 절약 및 원문 보관 방지)
+	 */
+	private String hash(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hashed = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getEncoder().withoutPadding().encodeToString(hashed);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 항목별 만료 시간을 토큰의 exp 클레임까지로 설정
+	 */
+	private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+		@Override
+		public long expireAfterCreate(String key, Claims claims, long currentTime) {
+			Date expiration = claims.getExpiration();
+			long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Claims claims, long currentTime,
+				long currentDuration) {
+			return expireAfterCreate(key, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Claims claims, long currentTime,
+				long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -2,6 +2,7 @@ package com.gdc.tripmate.global.security.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -17,6 +18,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtTokenProvider {
 
+	public static final String ROLES_CLAIM = "roles";
+	public static final String USER_ID_CLAIM = "uid";
+
 	@Value("${jwt.secret}")
 	private String jwtSecret;
 
@@ -26,16 +30,37 @@ public class JwtTokenProvider {
 	@Value("${jwt.refresh-token-validity-in-seconds}")
 	private long refreshTokenValidityInSeconds;
 
+	@Value("${jwt.claims-cache.maximum-size:10000}")
+	private long claimsCacheMaximumSize;
+
+	// 활성화 시 액세스 토큰 클레임만으로 인증 주체를 구성 (요청마다 사용자 조회 생략)
+	@Value("${jwt.stateless-principal.enabled:false}")
+	private boolean statelessPrincipalEnabled;
+
 	private Key key;
 
+	// 불변 객체로 스레드 안전하므로 하나만 생성해 재사용
+	private JwtParser jwtParser;
+
+	private JwtClaimsCache claimsCache;
+
 	@PostConstruct
 	public void init() {
 		byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
 		this.key = Keys.hmacShaKeyFor(keyBytes);
+		this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+		this.claimsCache = new JwtClaimsCache(claimsCacheMaximumSize);
 	}
 
 	public String createAccessToken(String email, Collection<String> roles) {
-		return createToken(email, roles, accessTokenValidityInSeconds);
+		return createToken(null, email, roles, accessTokenValidityInSeconds);
+	}
+
+	/**
+	 * 사용자 ID를 포함한 액세스 토큰 생성 (무상태 인증 주체 구성용)
+	 */
+	public String createAccessToken(Long userId, String email, Collection<String> roles) {
+		return createToken(userId, email, roles, accessTokenValidityInSeconds);
 	}
 
 	public String createRefreshToken() {
@@ -49,9 +74,13 @@ public class JwtTokenProvider {
 				.compact();
 	}
 
-	private String createToken(String email, Collection<String> roles, long validityInSeconds) {
+	private String createToken(Long userId, String email, Collection<String> roles,
+			long validityInSeconds) {
 		Claims claims = Jwts.claims().setSubject(email);
-		claims.put("roles", roles);
+		claims.put(ROLES_CLAIM, roles);
+		if (userId != null) {
+			claims.put(USER_ID_CLAIM, userId);
+		}
 
 		Date now = new Date();
 		Date validity = new Date(now.getTime() + validityInSeconds * 1000);
@@ -64,31 +93,45 @@ public class JwtTokenProvider {
 				.compact();
 	}
 
+	/**
+	 * 토큰의 클레임 조회 한 번 검증된 토큰은 만료 시각까지 서명 검증 없이 캐시에서 반환
+	 */
+	public Claims getClaims(String token) {
+		return claimsCache.get(token, this::parseClaims);
+	}
+
+	/**
+	 * 유효한 토큰이면 클레임을, 유효하지 않으면 null 반환 (검증과 조회를 한 번의 파싱으로 처리)
+	 */
+	public Claims resolveClaims(String token) {
+		try {
+			return getClaims(token);
+		} catch (JwtException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
 	public String getEmailFromToken(String token) {
-		return Jwts.parserBuilder()
-				.setSigningKey(key)
-				.build()
-				.parseClaimsJws(token)
-				.getBody()
-				.getSubject();
+		return getClaims(token).getSubject();
 	}
 
 	public String getIdFromToken(String token) {
-		return Jwts.parserBuilder()
-				.setSigningKey(key)
-				.build()
-				.parseClaimsJws(token)
-				.getBody()
-				.getId();
+		return getClaims(token).getId();
 	}
 
 	public boolean validateToken(String token) {
-		try {
-			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-			return true;
-		} catch (JwtException | IllegalArgumentException e) {
-			return false;
-		}
+		return resolveClaims(token) != null;
+	}
+
+	private Claims parseClaims(String token) {
+		return jwtParser.parseClaimsJws(token).getBody();
+	}
+
+	/**
+	 * 무상태 인증 주체 모드 활성화 여부
+	 */
+	public boolean isStatelessPrincipalEnabled() {
+		return statelessPrincipalEnabled;
 	}
 
 	/**
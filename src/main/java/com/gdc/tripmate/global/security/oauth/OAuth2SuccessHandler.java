@@ -94,7 +94,8 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 		String sessionId = UUID.randomUUID().toString();
 
 		// 액세스 토큰 및 리프레시 토큰 생성
-		String accessToken = jwtTokenProvider.createAccessToken(user.getEmail(), user.getRoles());
+		String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(),
+				user.getRoles());
 		String refreshToken = jwtTokenProvider.createRefreshToken();
 
 		// 세션 서비스를 통해 세션 저장
@@ -122,7 +123,8 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 	private void handleAppAuthentication(User user, boolean needPhoneVerification,
 			HttpServletResponse response) throws IOException {
 		// 액세스 토큰 및 리프레시 토큰 생성
-		String accessToken = jwtTokenProvider.createAccessToken(user.getEmail(), user.getRoles());
+		String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(),
+				user.getRoles());
 		String refreshToken = jwtTokenProvider.createRefreshToken();
 
 		// Redis에 리프레시 토큰 저장 (앱은 세션 방식이 아니라 토큰 방식 유지)
@@ -0,0 +1,124 @@
+package com.gdc.tripmate.global.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 한글 자모 분해 유틸 - 입력 중인 글자도 검색되도록 완성형 음절을 초성/중성/종성 기본 자모로 분해
+ * <p>
+ * 예) "여행" → "ㅇㅕㅎㅐㅇ", "과" → "ㄱㅗㅏ" (겹모음/겹받침도 입력 순서대로 분해)
+ */
+public final class HangulJamo {
+
+	private static final char SYLLABLE_BEGIN = '가';
+	private static final char SYLLABLE_END = '힣';
+	private static final int JUNG_COUNT = 21;
+	private static final int JONG_COUNT = 28;
+
+	private static final String[] CHO = {
+			"ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+			"ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+
+	private static final String[] JUNG = {
+			"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+			"ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+	};
+
+	private static final String[] JONG = {
+			"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+			"ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+			"ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+
+	// 단독으로 입력된 겹자모(호환 자모)의 분해
+	private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+	private static final String[] COMPOUND_JAMO_PARTS = {
+			"ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+			"ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+	};
+
+	private HangulJamo() {
+	}
+
+	/**
+	 * 검색 키 정규화 - NFC, 소문자, 공백 제거
+	 */
+	public static String normalize(String text) {
+		String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+		StringBuilder builder = new StringBuilder(composed.length());
+		composed.codePoints()
+				.filter(codePoint -> !Character.isWhitespace(codePoint))
+				.forEach(builder::appendCodePoint);
+		return builder.toString();
+	}
+
+	/**
+	 * 기본 자모열로 분해 (한글 외 문자는 그대로 유지)
+	 */
+	public static String decompose(String text) {
+		StringBuilder builder = new StringBuilder(text.length() * 3);
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (isSyllable(c)) {
+				int offset = c - SYLLABLE_BEGIN;
+				builder.append(CHO[offset / (JUNG_COUNT * JONG_COUNT)])
+						.append(JUNG[offset % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT])
+						.append(JONG[offset % JONG_COUNT]);
+				continue;
+			}
+			int compound = COMPOUND_JAMO.indexOf(c);
+			builder.append(compound >= 0 ? COMPOUND_JAMO_PARTS[compound] : String.valueOf(c));
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 초성열 추출 (한글 외 문자는 그대로 유지) 예) "제주여행" → "ㅈㅈㅇㅎ"
+	 */
+	public static String choseong(String text) {
+		StringBuilder builder = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			builder.append(isSyllable(c)
+					? CHO[(c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)]
+					: String.valueOf(c));
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 한글 자음만으로 된 입력인지 확인 (초성 검색 여부 판단)
+	 */
+	public static boolean isChoseongOnly(String text) {
+		if (text.isEmpty()) {
+			return false;
+		}
+		for (int i = 0; i < text.length(); i++) {
+			if (!isConsonant(text.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 한글 완성형 음절 포함 여부
+	 */
+	public static boolean containsSyllable(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			if (isSyllable(text.charAt(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isSyllable(char c) {
+		return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+	}
+
+	private static boolean isConsonant(char c) {
+		return c >= 'ㄱ' && c <= 'ㅎ';
+	}
+}
@@ -0,0 +1,112 @@
+package com.gdc.tripmate.domain.match.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MatchIndexTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+	private MatchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new MatchIndex();
+		index.upsert(profile(1, "male", 1995, 10L, 20L, 30L));
+		index.upsert(profile(2, "female", 1996, 10L, 20L, 30L));
+		index.upsert(profile(3, "male", 1980, 10L, 20L, 40L));
+		index.upsert(profile(4, "female", 2000, 10L, 50L));
+		index.upsert(profile(5, "female", 1995, 60L));
+	}
+
+	@Test
+	void 자카드_유사도_순으로_상위_K개() {
+		List<MatchResult> results = index.search(1, query(Similarity.JACCARD, 3, null, null, null));
+
+		assertThat(results).extracting(MatchResult::profileId).containsExactly(2L, 3L, 4L);
+		assertThat(results.get(0).score()).isEqualTo(1.0);
+		assertThat(results.get(1).score()).isEqualTo(0.5);
+		assertThat(results.get(1).commonTagIds()).containsExactlyInAnyOrder(10L, 20L);
+	}
+
+	@Test
+	void 성별과_나이_필터() {
+		List<MatchResult> females = index.search(1, query(Similarity.JACCARD, 10, "female", null, null));
+		assertThat(females).extracting(MatchResult::profileId).containsExactly(2L, 4L);
+
+		// 2025-06-01 기준 만 26~40세 → 1996년생 29세, 2000년생 25세, 1980년생 45세
+		List<MatchResult> adults = index.search(1, query(Similarity.JACCARD, 10, null, 26, 40));
+		assertThat(adults).extracting(MatchResult::profileId).containsExactly(2L);
+	}
+
+	@Test
+	void 가중치_방식은_드문_태그가_겹칠수록_높은_점수() {
+		// 10 은 대부분이 가진 흔한 태그, 70 은 드문 태그
+		index.upsert(profile(6, "male", 1990, 10L, 70L));
+		index.upsert(profile(7, "female", 1990, 70L, 80L));
+
+		// 4번(흔한 태그 공유)과 7번(드문 태그 공유)은 자카드로는 동점
+		List<Long> jaccard = index.search(6, query(Similarity.JACCARD, 10, null, null, null)).stream()
+				.map(MatchResult::profileId).toList();
+		List<Long> weighted = index.search(6, query(Similarity.WEIGHTED, 10, null, null, null)).stream()
+				.map(MatchResult::profileId).toList();
+
+		assertThat(jaccard.indexOf(4L)).isLessThan(jaccard.indexOf(7L));
+		assertThat(weighted.indexOf(7L)).isLessThan(weighted.indexOf(4L));
+	}
+
+	@Test
+	void 갱신과_삭제가_역색인에_반영() {
+		index.upsert(profile(2, "female", 1996, 60L));
+		index.remove(3);
+
+		List<MatchResult> results = index.search(1, query(Similarity.JACCARD, 10, null, null, null));
+
+		assertThat(results).extracting(MatchResult::profileId).containsExactly(4L);
+		assertThat(index.size()).isEqualTo(4);
+	}
+
+	@Test
+	void 병렬_채점은_단일_스레드와_같은_결과() {
+		MatchIndex serial = new MatchIndex();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		MatchIndex parallel = new MatchIndex(pool, 0);
+		Random random = new Random(42);
+		for (long id = 1; id <= 50_000; id++) {
+			List<Long> tags = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				tags.add((long) random.nextInt(40));
+			}
+			MatchProfile profile = new MatchProfile(id, id, "user" + id, random.nextBoolean() ? "male" : "female",
+					LocalDate.of(1970 + random.nextInt(35), 1, 1), tags);
+			serial.upsert(profile);
+			parallel.upsert(profile);
+		}
+
+		try {
+			for (Similarity similarity : Similarity.values()) {
+				MatchQuery query = query(similarity, 50, "female", 20, 45);
+				assertThat(parallel.search(1, query)).isEqualTo(serial.search(1, query));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private static MatchProfile profile(long id, String gender, int birthYear, Long... tagIds) {
+		return new MatchProfile(id, id * 100, "user" + id, gender, LocalDate.of(birthYear, 1, 1),
+				List.of(tagIds));
+	}
+
+	private static MatchQuery query(Similarity similarity, int limit, String gender, Integer minAge,
+			Integer maxAge) {
+		return new MatchQuery(limit, similarity, gender, minAge, maxAge, TODAY);
+	}
+}
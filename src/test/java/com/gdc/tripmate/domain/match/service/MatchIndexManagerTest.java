@@ -0,0 +1,66 @@
+package com.gdc.tripmate.domain.match.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.gdc.tripmate.domain.tag.repository.UserProfileRepository;
+import com.gdc.tripmate.domain.tag.repository.UserProfileTagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class MatchIndexManagerTest {
+
+	private final UserProfileRepository userProfileRepository = mock(UserProfileRepository.class);
+	private final UserProfileTagRepository userProfileTagRepository = mock(UserProfileTagRepository.class);
+
+	private MatchIndexManager matchIndexManager;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		matchIndexManager = new MatchIndexManager(userProfileRepository, userProfileTagRepository,
+				mock(RedisTemplate.class), mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry());
+		matchIndexManager.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		matchIndexManager.shutdown();
+	}
+
+	@Test
+	void 생성_중_들어온_요청은_하나로_합쳐_한_번_더_실행() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		given(userProfileRepository.findMatchAttributes(any())).willAnswer(invocation -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return List.of();
+		});
+
+		matchIndexManager.scheduleRebuild();
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// 호출한 스레드는 생성 완료를 기다리지 않음
+		matchIndexManager.scheduleRebuild();
+		matchIndexManager.scheduleRebuild();
+		matchIndexManager.scheduleRebuild();
+		release.countDown();
+
+		verify(userProfileRepository, timeout(5000).times(2)).findMatchAttributes(any());
+		Thread.sleep(100);
+		verify(userProfileRepository, times(2)).findMatchAttributes(any());
+	}
+}
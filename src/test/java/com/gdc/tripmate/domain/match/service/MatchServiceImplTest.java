@@ -0,0 +1,78 @@
+package com.gdc.tripmate.domain.match.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.gdc.tripmate.domain.match.dto.MatchCandidateResponse;
+import com.gdc.tripmate.domain.match.dto.MatchRequest;
+import com.gdc.tripmate.domain.match.index.MatchIndex;
+import com.gdc.tripmate.domain.match.index.MatchProfile;
+import com.gdc.tripmate.domain.tag.entity.UserProfile;
+import com.gdc.tripmate.domain.tag.repository.UserProfileRepository;
+import com.gdc.tripmate.domain.tag.service.TagDictionary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class MatchServiceImplTest {
+
+	private final MatchIndexManager matchIndexManager = mock(MatchIndexManager.class);
+	private final UserProfileRepository userProfileRepository = mock(UserProfileRepository.class);
+	private final TagDictionary tagDictionary = mock(TagDictionary.class);
+
+	private MatchServiceImpl matchService;
+
+	@BeforeEach
+	void setUp() {
+		MatchIndex index = new MatchIndex();
+		index.upsert(new MatchProfile(1L, 100L, "me", "male", LocalDate.of(1995, 1, 1), List.of(10L)));
+		index.upsert(new MatchProfile(2L, 200L, "mate", "female", LocalDate.of(1996, 1, 1), List.of(10L)));
+		given(matchIndexManager.index()).willReturn(index);
+		given(tagDictionary.snapshot()).willReturn(mock(TagDictionary.Snapshot.class));
+
+		UserProfile profile = new UserProfile();
+		ReflectionTestUtils.setField(profile, "id", 1L);
+		given(userProfileRepository.findByUserId(100L)).willReturn(Optional.of(profile));
+
+		matchService = new MatchServiceImpl(matchIndexManager, userProfileRepository, tagDictionary,
+				new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(matchService, "maxLimit", 100);
+	}
+
+	@Test
+	void 성별_필터는_대소문자와_공백을_무시() {
+		List<MatchCandidateResponse> candidates = matchService.findMatches(100L, request(" Female ", null, null));
+
+		assertThat(candidates).extracting(MatchCandidateResponse::getUserId).containsExactly(200L);
+	}
+
+	@Test
+	void 알_수_없는_성별_필터는_거절() {
+		assertThatThrownBy(() -> matchService.findMatches(100L, request("woman", null, null)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void 범위를_벗어난_나이_필터는_거절() {
+		assertThatThrownBy(() -> matchService.findMatches(100L, request(null, null, Integer.MAX_VALUE)))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> matchService.findMatches(100L, request(null, -1, null)))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> matchService.findMatches(100L, request(null, 40, 30)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static MatchRequest request(String gender, Integer minAge, Integer maxAge) {
+		MatchRequest request = new MatchRequest();
+		request.setGender(gender);
+		request.setMinAge(minAge);
+		request.setMaxAge(maxAge);
+		return request;
+	}
+}
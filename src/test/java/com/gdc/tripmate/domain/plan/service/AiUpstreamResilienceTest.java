@@ -0,0 +1,94 @@
+package com.gdc.tripmate.domain.plan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.gdc.tripmate.domain.plan.service.PlanGenerationGate.Permit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+class AiUpstreamResilienceTest {
+
+	private static final String ENDPOINT = "/generate";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private PlanGenerationGate gate;
+	private AiUpstreamResilience resilience;
+
+	@BeforeEach
+	void setUp() {
+		gate = new PlanGenerationGate(meterRegistry);
+		ReflectionTestUtils.setField(gate, "maxConcurrent", 2);
+		ReflectionTestUtils.setField(gate, "maxQueued", 0);
+		gate.init();
+
+		resilience = new AiUpstreamResilience(meterRegistry, gate);
+		ReflectionTestUtils.setField(resilience, "attemptTimeoutSeconds", 5L);
+		ReflectionTestUtils.setField(resilience, "breakerWindowSize", 20);
+		ReflectionTestUtils.setField(resilience, "breakerMinimumCalls", 10);
+		ReflectionTestUtils.setField(resilience, "breakerFailureRateThreshold", 0.5);
+		ReflectionTestUtils.setField(resilience, "breakerOpenDurationMillis", 30000L);
+		ReflectionTestUtils.setField(resilience, "breakerHalfOpenTrialCalls", 3);
+		ReflectionTestUtils.setField(resilience, "maxRetries", 0);
+		ReflectionTestUtils.setField(resilience, "retryBudgetRatio", 0.2);
+		ReflectionTestUtils.setField(resilience, "retryBudgetBurst", 5);
+		ReflectionTestUtils.setField(resilience, "hedgeEnabled", true);
+		ReflectionTestUtils.setField(resilience, "hedgeMinDelayMillis", 50L);
+		resilience.init();
+	}
+
+	@Test
+	void 헤지_전송_후_기본_요청이_실패해도_헤지_응답_사용() {
+		String result = resilience.execute(ENDPOINT, () -> calls.incrementAndGet() == 1
+						? Mono.delay(Duration.ofMillis(150)).then(Mono.<String>error(serverError()))
+						: Mono.delay(Duration.ofMillis(300)).thenReturn("hedged"))
+				.block(Duration.ofSeconds(2));
+
+		assertThat(result).isEqualTo("hedged");
+		assertThat(calls.get()).isEqualTo(2);
+	}
+
+	@Test
+	void 헤지_전에_기본_요청이_실패하면_원래_오류를_바로_전달() {
+		assertThatThrownBy(() -> resilience.execute(ENDPOINT, () -> {
+					calls.incrementAndGet();
+					return Mono.<String>error(serverError());
+				}).block(Duration.ofSeconds(2)))
+				.isInstanceOf(WebClientResponseException.class);
+
+		assertThat(calls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void 게이트_허가가_없으면_헤지하지_않음() {
+		// 호출자 자신과 다른 요청이 허가를 모두 사용 중
+		Permit caller = gate.acquire().block();
+		Permit other = gate.acquire().block();
+
+		String result = resilience.execute(ENDPOINT, () -> {
+					calls.incrementAndGet();
+					return Mono.delay(Duration.ofMillis(150)).thenReturn("primary");
+				})
+				.block(Duration.ofSeconds(2));
+
+		assertThat(result).isEqualTo("primary");
+		assertThat(calls.get()).isEqualTo(1);
+		assertThat(meterRegistry.counter("ai.upstream.hedges.skipped",
+				"endpoint", ENDPOINT, "reason", "gate").count()).isEqualTo(1);
+
+		caller.release();
+		other.release();
+	}
+
+	private static WebClientResponseException serverError() {
+		return WebClientResponseException.create(500, "Internal Server Error", null, null, null);
+	}
+}
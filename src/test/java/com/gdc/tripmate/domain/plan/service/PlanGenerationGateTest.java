@@ -0,0 +1,73 @@
+package com.gdc.tripmate.domain.plan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.gdc.tripmate.domain.plan.service.PlanGenerationGate.Permit;
+import com.gdc.tripmate.global.error.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+
+class PlanGenerationGateTest {
+
+	private PlanGenerationGate gate;
+
+	@BeforeEach
+	void setUp() {
+		gate = new PlanGenerationGate(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(gate, "maxConcurrent", 1);
+		ReflectionTestUtils.setField(gate, "maxQueued", 1);
+		ReflectionTestUtils.setField(gate, "retryAfterSeconds", 5L);
+		gate.init();
+	}
+
+	@Test
+	void 허가_반환_시_대기_요청이_실행되고_대기열_초과는_거절() {
+		Permit first = gate.acquire().block();
+
+		AtomicReference<Permit> second = new AtomicReference<>();
+		gate.acquire().subscribe(second::set);
+		assertThat(second.get()).isNull();
+
+		AtomicReference<Throwable> rejected = new AtomicReference<>();
+		gate.acquire().subscribe(permit -> {
+		}, rejected::set);
+		assertThat(rejected.get()).isInstanceOf(ServiceOverloadedException.class);
+		assertThat(((ServiceOverloadedException) rejected.get()).getRetryAfterSeconds()).isEqualTo(5L);
+
+		first.release();
+		assertThat(second.get()).isNotNull();
+	}
+
+	@Test
+	void 취소된_대기_요청은_허가를_받지_않음() {
+		Permit first = gate.acquire().block();
+
+		AtomicReference<Permit> cancelled = new AtomicReference<>();
+		Disposable waiting = gate.acquire().subscribe(cancelled::set);
+		waiting.dispose();
+
+		first.release();
+		first.release();
+		assertThat(cancelled.get()).isNull();
+
+		// 허가가 새지 않았다면 바로 다시 획득 가능
+		assertThat(gate.acquire().block()).isNotNull();
+	}
+
+	@Test
+	void 대기열이_가득_차면_응답_전_수용_확인에서_거절() {
+		Permit first = gate.acquire().block();
+		gate.checkAdmission();
+
+		gate.acquire().subscribe();
+		assertThatThrownBy(gate::checkAdmission).isInstanceOf(ServiceOverloadedException.class);
+
+		first.release();
+		gate.checkAdmission();
+	}
+}
@@ -0,0 +1,90 @@
+package com.gdc.tripmate.domain.tag.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.gdc.tripmate.domain.match.service.MatchIndexManager;
+import com.gdc.tripmate.domain.tag.dto.response.TagMergeResponse;
+import com.gdc.tripmate.domain.tag.entity.Tag;
+import com.gdc.tripmate.domain.tag.repository.TagRepository;
+import com.gdc.tripmate.domain.tag.repository.UserProfileTagRepository;
+import com.gdc.tripmate.domain.tag.repository.UserTagRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TagMergeServiceTest {
+
+	private final TagRepository tagRepository = mock(TagRepository.class);
+	private final UserProfileTagRepository userProfileTagRepository = mock(UserProfileTagRepository.class);
+	private final UserTagRepository userTagRepository = mock(UserTagRepository.class);
+	private final TagDictionary tagDictionary = mock(TagDictionary.class);
+	private final TagPopularityIndex tagPopularityIndex = mock(TagPopularityIndex.class);
+	private final MatchIndexManager matchIndexManager = mock(MatchIndexManager.class);
+
+	private TagMergeService tagMergeService;
+
+	@BeforeEach
+	void setUp() {
+		TagNormalizer tagNormalizer = new TagNormalizer(tagDictionary);
+		tagNormalizer.setAliases(List.of("하이킹=Hiking"));
+
+		given(tagRepository.findAll()).willReturn(List.of(
+				tag(1L, "hiking", "DEFAULT"),
+				tag(2L, "Hiking", "HOBBY"),
+				tag(3L, "하이킹", "DEFAULT"),
+				tag(4L, "Cafe", "DEFAULT"),
+				tag(5L, "ＣＡＦＥ", "DEFAULT"),
+				tag(6L, "Yoga", "DEFAULT")));
+
+		tagMergeService = new TagMergeService(tagRepository, userProfileTagRepository,
+				userTagRepository, tagNormalizer, tagDictionary, tagPopularityIndex,
+				mock(CacheManager.class), matchIndexManager);
+	}
+
+	@Test
+	void 정규화_키와_동의어로_묶고_분류된_태그를_먼저_생성된_태그보다_우선() {
+		TagMergeResponse response = tagMergeService.merge(true);
+
+		assertThat(response.isDryRun()).isTrue();
+		assertThat(response.getMergedTags()).isEqualTo(3);
+		assertThat(response.getMerges())
+				.containsOnlyKeys("Hiking", "Cafe")
+				.containsEntry("Hiking", List.of("hiking", "하이킹"))
+				.containsEntry("Cafe", List.of("ＣＡＦＥ"));
+
+		verify(userProfileTagRepository, never()).copyToTag(any(), anyLong());
+		verify(tagRepository, never()).deleteAllByIdInBatch(any());
+		verify(tagDictionary, never()).refreshAfterCommit();
+		verify(matchIndexManager, never()).requestRebuild();
+	}
+
+	@Test
+	void 중복_태그의_연결을_대표_태그로_옮긴_뒤_삭제() {
+		tagMergeService.merge(false);
+
+		verify(userProfileTagRepository).copyToTag(List.of(1L, 3L), 2L);
+		verify(userProfileTagRepository).deleteAllByTagIdIn(List.of(1L, 3L));
+		verify(userTagRepository).copyToTag(List.of(1L, 3L), 2L);
+		verify(tagRepository).deleteAllByIdInBatch(List.of(1L, 3L));
+		verify(userProfileTagRepository).copyToTag(List.of(5L), 4L);
+		verify(tagRepository).deleteAllByIdInBatch(List.of(5L));
+
+		verify(tagDictionary).refreshAfterCommit();
+		verify(tagPopularityIndex).reconcile();
+		verify(matchIndexManager).requestRebuild();
+	}
+
+	private static Tag tag(Long id, String name, String category) {
+		Tag tag = new Tag(name, category);
+		ReflectionTestUtils.setField(tag, "id", id);
+		return tag;
+	}
+}
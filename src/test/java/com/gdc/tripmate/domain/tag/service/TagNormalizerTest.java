@@ -0,0 +1,55 @@
+package com.gdc.tripmate.domain.tag.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.gdc.tripmate.domain.tag.entity.Tag;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TagNormalizerTest {
+
+	private TagNormalizer tagNormalizer;
+
+	@BeforeEach
+	void setUp() {
+		Tag hiking = new Tag("Hiking", "HOBBY");
+		ReflectionTestUtils.setField(hiking, "id", 1L);
+
+		TagDictionary tagDictionary = mock(TagDictionary.class);
+		given(tagDictionary.snapshot()).willReturn(new TagDictionary.Snapshot(1L, List.of(hiking)));
+
+		tagNormalizer = new TagNormalizer(tagDictionary);
+		tagNormalizer.setAliases(List.of("하이킹=Hiking", " 등산 = hiking ", "잘못된설정", ""));
+	}
+
+	@Test
+	void 전각_문자와_공백_정리() {
+		assertThat(TagNormalizer.display("  Ｃａｆｅ　 Tour ")).isEqualTo("Cafe Tour");
+		assertThat(TagNormalizer.key("  Ｃａｆｅ　 Tour ")).isEqualTo("cafe tour");
+	}
+
+	@Test
+	void 대소문자만_다른_이름은_기존_태그_이름으로_통일() {
+		assertThat(tagNormalizer.canonicalName(" hiking ")).isEqualTo("Hiking");
+		assertThat(tagNormalizer.canonicalName("HIKING")).isEqualTo("Hiking");
+		// 사전에 없는 이름은 정리된 입력 표기 그대로 사용
+		assertThat(tagNormalizer.canonicalName(" Cafe  Tour")).isEqualTo("Cafe Tour");
+	}
+
+	@Test
+	void 동의어는_대표_태그로_치환() {
+		assertThat(tagNormalizer.canonicalName("하이킹")).isEqualTo("Hiking");
+		assertThat(tagNormalizer.canonicalName("등산")).isEqualTo("Hiking");
+		assertThat(tagNormalizer.canonicalKey("하이킹")).isEqualTo(tagNormalizer.canonicalKey("hiking"));
+	}
+
+	@Test
+	void 빈_이름은_null() {
+		assertThat(tagNormalizer.canonicalName("   ")).isNull();
+		assertThat(tagNormalizer.canonicalKey(null)).isNull();
+	}
+}
@@ -0,0 +1,80 @@
+package com.gdc.tripmate.domain.tag.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.gdc.tripmate.domain.tag.dto.request.TagDto;
+import com.gdc.tripmate.domain.tag.entity.Tag;
+import com.gdc.tripmate.domain.tag.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TagSearchIndexTest {
+
+	private final TagRepository tagRepository = mock(TagRepository.class);
+
+	private TagDictionary tagDictionary;
+	private TagSearchIndex tagSearchIndex;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		given(redisTemplate.opsForValue()).willReturn(mock(ValueOperations.class));
+
+		given(tagRepository.findAll()).willReturn(List.of(
+				tag(1L, "제주여행"), tag(2L, "제주맛집"), tag(3L, "서울"), tag(4L, "Hiking")));
+
+		tagDictionary = new TagDictionary(tagRepository, redisTemplate, new SimpleMeterRegistry());
+		tagDictionary.init();
+		tagSearchIndex = new TagSearchIndex(tagDictionary);
+		tagSearchIndex.init();
+		tagDictionary.load();
+	}
+
+	@Test
+	void 자모_단위_접두사_검색() {
+		assertThat(names("제주")).containsExactly("제주여행", "제주맛집");
+		// "제주"를 입력하는 중에 조합된 "젲"도 접두사로 취급
+		assertThat(names("젲")).containsExactly("제주여행", "제주맛집");
+		assertThat(names("hik")).containsExactly("Hiking");
+	}
+
+	@Test
+	void 초성_검색() {
+		assertThat(names("ㅈㅈㅇㅎ")).containsExactly("제주여행");
+		assertThat(names("ㅅㅇ")).containsExactly("서울");
+	}
+
+	@Test
+	void 오타는_트라이그램_유사도로_검색() {
+		assertThat(names("제주여헹")).containsExactly("제주여행");
+	}
+
+	@Test
+	void 스냅샷이_바뀌면_추가_삭제된_태그만_반영() {
+		given(tagRepository.findAll()).willReturn(List.of(
+				tag(1L, "제주여행"), tag(2L, "제주맛집"), tag(4L, "Hiking"), tag(5L, "서핑")));
+		tagDictionary.load();
+
+		assertThat(names("서")).containsExactly("서핑");
+		assertThat(names("ㅅㅇ")).isEmpty();
+		assertThat(names("제주")).containsExactly("제주여행", "제주맛집");
+	}
+
+	private List<String> names(String query) {
+		return tagSearchIndex.search(query, 10).stream().map(TagDto::getName).toList();
+	}
+
+	private static Tag tag(Long id, String name) {
+		Tag tag = new Tag(name);
+		ReflectionTestUtils.setField(tag, "id", id);
+		return tag;
+	}
+}
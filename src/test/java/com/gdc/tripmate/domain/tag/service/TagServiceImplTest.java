@@ -0,0 +1,83 @@
+package com.gdc.tripmate.domain.tag.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.gdc.tripmate.domain.tag.dto.request.TagDto;
+import com.gdc.tripmate.domain.tag.entity.Tag;
+import com.gdc.tripmate.domain.tag.repository.TagRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TagServiceImplTest {
+
+	private final TagRepository tagRepository = mock(TagRepository.class);
+	private final TagDictionary tagDictionary = mock(TagDictionary.class);
+	private final TagPopularityIndex tagPopularityIndex = mock(TagPopularityIndex.class);
+
+	private TagServiceImpl tagService;
+	private Tag hiking;
+
+	@BeforeEach
+	void setUp() {
+		hiking = tag(1L, "Hiking", "HOBBY");
+		Tag cafe = tag(2L, "Cafe", "FOOD");
+		given(tagRepository.findById(1L)).willReturn(Optional.of(hiking));
+		given(tagDictionary.snapshot()).willReturn(new TagDictionary.Snapshot(1L, List.of(hiking, cafe)));
+
+		tagService = new TagServiceImpl(tagRepository, tagDictionary, tagPopularityIndex,
+				mock(TagSearchIndex.class), new TagNormalizer(tagDictionary));
+	}
+
+	@Test
+	void 대소문자만_바꾸는_이름_변경은_기존_태그를_수정() {
+		TagDto updated = tagService.updateTag(1L, new TagDto(null, " hiking ", null));
+
+		assertThat(updated.getId()).isEqualTo(1L);
+		assertThat(updated.getName()).isEqualTo("hiking");
+		assertThat(updated.getCategory()).isEqualTo("HOBBY");
+		assertThat(hiking.getName()).isEqualTo("hiking");
+		verify(tagRepository, never()).save(any());
+		verify(tagDictionary).refreshAfterCommit();
+	}
+
+	@Test
+	void 카테고리만_바꾸는_수정은_이름_중복으로_보지_않음() {
+		given(tagRepository.existsByName("Hiking")).willReturn(true);
+
+		TagDto updated = tagService.updateTag(1L, new TagDto(null, "Hiking", "ACTIVITY"));
+
+		assertThat(updated.getId()).isEqualTo(1L);
+		assertThat(updated.getCategory()).isEqualTo("ACTIVITY");
+		verify(tagRepository, never()).save(any());
+	}
+
+	@Test
+	void 다른_태그와_정규화_키가_같은_이름으로는_변경_불가() {
+		assertThatThrownBy(() -> tagService.updateTag(1L, new TagDto(null, "ＣＡＦＥ", null)))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(hiking.getName()).isEqualTo("Hiking");
+	}
+
+	@Test
+	void 삭제한_태그는_인기_순위에서도_제거() {
+		tagService.deleteTag(1L);
+
+		verify(tagRepository).delete(hiking);
+		verify(tagPopularityIndex).removeAfterCommit(List.of(hiking));
+	}
+
+	private static Tag tag(Long id, String name, String category) {
+		Tag tag = new Tag(name, category);
+		ReflectionTestUtils.setField(tag, "id", id);
+		return tag;
+	}
+}
@@ -0,0 +1,157 @@
+package com.gdc.tripmate.global.redis.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gdc.tripmate.domain.tag.dto.request.ProfileDto;
+import com.gdc.tripmate.global.redis.config.RedisConfig;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+class CompactRedisSerializerTest {
+
+	private final GenericJackson2JsonRedisSerializer jsonSerializer = jsonSerializer();
+
+	private final CompactRedisSerializer serializer = new CompactRedisSerializer(
+			RedisConfig.redisTypeRegistry(), jsonSerializer, 1024);
+
+	@Test
+	void 기본_타입_왕복() {
+		assertThat(roundTrip("CACHE:profiles:1")).isEqualTo("CACHE:profiles:1");
+		assertThat(roundTrip(42L)).isEqualTo(42L);
+		assertThat(roundTrip(7)).isEqualTo(7);
+		assertThat(roundTrip(true)).isEqualTo(true);
+		assertThat(roundTrip(1.5d)).isEqualTo(1.5d);
+	}
+
+	@Test
+	void 컬렉션_왕복() {
+		Map<String, List<String>> categorized = new LinkedHashMap<>();
+		categorized.put("여행 스타일", List.of("휴양", "액티비티"));
+		categorized.put("음식", List.of("맛집 탐방"));
+
+		assertThat(roundTrip(categorized)).isEqualTo(categorized);
+		assertThat(roundTrip(List.of("a", "b"))).isInstanceOf(ArrayList.class).isEqualTo(List.of("a", "b"));
+	}
+
+	@Test
+	void 등록된_DTO_왕복() {
+		ProfileDto profile = profile("짧은 소개");
+
+		ProfileDto restored = (ProfileDto) roundTrip(profile);
+
+		assertThat(restored).usingRecursiveComparison().isEqualTo(profile);
+	}
+
+	@Test
+	void DTO_컬렉션은_원소_타입까지_왕복() {
+		List<ProfileDto> profiles = List.of(profile("첫 번째"), profile("두 번째"));
+
+		Object restored = roundTrip(profiles);
+
+		assertThat(restored).isInstanceOf(ArrayList.class);
+		assertThat((List<?>) restored).allSatisfy(element -> assertThat(element).isInstanceOf(ProfileDto.class));
+		assertThat(restored).usingRecursiveComparison().isEqualTo(profiles);
+		// 원소 타입을 기록하므로 작은 Long 값도 Integer로 바뀌지 않음
+		assertThat(roundTrip(List.of(1L, 2L))).isEqualTo(List.of(1L, 2L));
+	}
+
+	@Test
+	void 원소_타입을_기록할_수_없는_DTO는_저장_시_거부() {
+		assertThatThrownBy(() -> serializer.serialize(Map.of("profile", profile("소개"))))
+				.isInstanceOf(SerializationException.class);
+		assertThatThrownBy(() -> serializer.serialize(List.of("문자열", profile("소개"))))
+				.isInstanceOf(SerializationException.class);
+		assertThatThrownBy(() -> serializer.serialize(List.of(List.of(profile("소개")))))
+				.isInstanceOf(SerializationException.class);
+	}
+
+	@Test
+	void JsonNode_왕복() throws Exception {
+		JsonNode node = new ObjectMapper().readTree("{\"city\":\"부산\",\"days\":[1,2,3]}");
+
+		assertThat(roundTrip(node)).isEqualTo(node);
+	}
+
+	@Test
+	void 임계값_이상은_압축되고_왕복() {
+		ProfileDto profile = profile("바다".repeat(2000));
+
+		byte[] bytes = serializer.serialize(profile);
+
+		assertThat(bytes[1] & 0x01).isEqualTo(1);
+		assertThat(bytes.length).isLessThan(jsonSerializer.serialize(profile).length);
+		assertThat(serializer.deserialize(bytes)).usingRecursiveComparison().isEqualTo(profile);
+	}
+
+	@Test
+	void JSON보다_작은_크기() {
+		ProfileDto profile = profile("짧은 소개");
+
+		assertThat(serializer.serialize(profile).length)
+				.isLessThan(jsonSerializer.serialize(profile).length);
+	}
+
+	@Test
+	void 기존_JSON_값도_읽을_수_있음() {
+		ProfileDto profile = profile("전환 전 값");
+
+		Object restored = serializer.deserialize(jsonSerializer.serialize(profile));
+
+		assertThat(restored).usingRecursiveComparison().isEqualTo(profile);
+	}
+
+	@Test
+	void null과_빈_값() {
+		assertThat(serializer.serialize(null)).isEmpty();
+		assertThat(serializer.deserialize(null)).isNull();
+		assertThat(serializer.deserialize(new byte[0])).isNull();
+	}
+
+	@Test
+	void 등록되지_않은_타입은_거부() {
+		assertThatThrownBy(() -> serializer.serialize(new StringBuilder("x")))
+				.isInstanceOf(SerializationException.class);
+	}
+
+	@Test
+	void 중복_등록은_거부() {
+		assertThatThrownBy(() -> new RedisTypeRegistry().register(1, ProfileDto.class))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private Object roundTrip(Object value) {
+		return serializer.deserialize(serializer.serialize(value));
+	}
+
+	private static ProfileDto profile(String bio) {
+		return ProfileDto.builder()
+				.userId(1L)
+				.email("user@tripmate.com")
+				.nickname("여행자")
+				.bio(bio)
+				.gender("FEMALE")
+				.birthDate(LocalDate.of(1998, 3, 14))
+				.profileImageUrl("https://storage.googleapis.com/tripmate/profile/1.png")
+				.phoneNumber("01012345678")
+				.phoneVerified(true)
+				.tags(List.of("휴양", "맛집 탐방", "사진"))
+				.profileCompleted(true)
+				.build();
+	}
+
+	private static GenericJackson2JsonRedisSerializer jsonSerializer() {
+		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+		serializer.configure(mapper -> mapper.registerModule(new JavaTimeModule()));
+		return serializer;
+	}
+}
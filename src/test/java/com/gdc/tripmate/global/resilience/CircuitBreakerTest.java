@@ -0,0 +1,153 @@
+package com.gdc.tripmate.global.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gdc.tripmate.global.resilience.CircuitBreaker.Permission;
+import com.gdc.tripmate.global.resilience.CircuitBreaker.State;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+	private final AtomicLong clock = new AtomicLong();
+	private final List<State> transitions = new ArrayList<>();
+	private CircuitBreaker circuitBreaker;
+
+	@BeforeEach
+	void setUp() {
+		circuitBreaker = new CircuitBreaker("/ai/generate", 4, 4, 0.5, 1000, 2,
+				(breaker, from, to) -> transitions.add(to), clock::get);
+	}
+
+	@Test
+	void 실패율이_임계값을_넘으면_차단() {
+		call(false);
+		call(true);
+		call(false);
+		assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+
+		call(true);
+
+		assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+		assertThat(circuitBreaker.tryAcquirePermission()).isEmpty();
+	}
+
+	@Test
+	void 대기_시간이_지나면_시험_호출_후_복구() {
+		openCircuit();
+		advanceMillis(1000);
+
+		Permission first = acquire();
+		Permission second = acquire();
+		// 시험 호출 수를 넘는 요청은 차단
+		assertThat(circuitBreaker.tryAcquirePermission()).isEmpty();
+
+		first.onSuccess();
+		second.onSuccess();
+
+		assertThat(transitions).containsExactly(State.OPEN, State.HALF_OPEN, State.CLOSED);
+	}
+
+	@Test
+	void 시험_호출이_실패하면_다시_차단() {
+		openCircuit();
+		advanceMillis(1000);
+
+		acquire().onFailure();
+
+		assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+		assertThat(circuitBreaker.tryAcquirePermission()).isEmpty();
+	}
+
+	@Test
+	void 취소된_시험_호출은_자리를_반환() {
+		openCircuit();
+		advanceMillis(1000);
+
+		acquire();
+		Permission cancelled = acquire();
+		cancelled.release();
+		// 같은 허가를 여러 번 반환해도 한 자리만 반환
+		cancelled.release();
+
+		acquire();
+		assertThat(circuitBreaker.tryAcquirePermission()).isEmpty();
+	}
+
+	@Test
+	void 이전_상태에서_받은_허가의_결과는_시험_호출로_집계하지_않음() {
+		// 차단 전에 시작된 느린 호출들
+		Permission slowSuccess = acquire();
+		Permission slowFailure = acquire();
+		Permission slowCancelled = acquire();
+		openCircuit();
+		advanceMillis(1000);
+
+		Permission trial = acquire();
+		acquire();
+
+		slowSuccess.onSuccess();
+		slowFailure.onFailure();
+		slowCancelled.release();
+
+		// 늦게 도착한 결과로 복구되거나 다시 차단되지 않고, 시험 호출 자리도 늘지 않음
+		assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+		assertThat(circuitBreaker.tryAcquirePermission()).isEmpty();
+
+		trial.onSuccess();
+		assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+	}
+
+	@Test
+	void 결과는_허가당_한_번만_반영() {
+		openCircuit();
+		advanceMillis(1000);
+
+		Permission trial = acquire();
+		trial.onSuccess();
+		trial.onSuccess();
+
+		// 시험 호출 두 건이 성공해야 복구
+		assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+	}
+
+	@Test
+	void 재시도_예산은_요청_비율만큼_적립() {
+		RetryBudget retryBudget = new RetryBudget(0.5, 1);
+
+		assertThat(retryBudget.tryWithdraw()).isTrue();
+		assertThat(retryBudget.tryWithdraw()).isFalse();
+
+		retryBudget.deposit();
+		assertThat(retryBudget.tryWithdraw()).isFalse();
+		retryBudget.deposit();
+		assertThat(retryBudget.tryWithdraw()).isTrue();
+	}
+
+	private void openCircuit() {
+		for (int i = 0; i < 4; i++) {
+			call(true);
+		}
+	}
+
+	private void call(boolean failed) {
+		Permission permission = acquire();
+		if (failed) {
+			permission.onFailure();
+		} else {
+			permission.onSuccess();
+		}
+	}
+
+	private Permission acquire() {
+		return circuitBreaker.tryAcquirePermission().orElseThrow();
+	}
+
+	private void advanceMillis(long millis) {
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+	}
+}
@@ -0,0 +1,34 @@
+package com.gdc.tripmate.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HangulJamoTest {
+
+	@Test
+	void 음절을_기본_자모로_분해() {
+		assertThat(HangulJamo.decompose("여행")).isEqualTo("ㅇㅕㅎㅐㅇ");
+		assertThat(HangulJamo.decompose("과닭")).isEqualTo("ㄱㅗㅏㄷㅏㄹㄱ");
+		assertThat(HangulJamo.decompose("k팝")).isEqualTo("kㅍㅏㅂ");
+	}
+
+	@Test
+	void 입력_중인_글자도_완성된_이름의_접두사() {
+		// "여기"를 입력하는 중에는 "역"이 먼저 조합됨
+		assertThat(HangulJamo.decompose("여기")).startsWith(HangulJamo.decompose("역"));
+		assertThat(HangulJamo.decompose("많이")).startsWith(HangulJamo.decompose("만ㅎ"));
+	}
+
+	@Test
+	void 초성_추출과_초성_입력_판별() {
+		assertThat(HangulJamo.choseong("제주여행")).isEqualTo("ㅈㅈㅇㅎ");
+		assertThat(HangulJamo.isChoseongOnly("ㅈㅈ")).isTrue();
+		assertThat(HangulJamo.isChoseongOnly("제ㅈ")).isFalse();
+	}
+
+	@Test
+	void 검색어_정규화() {
+		assertThat(HangulJamo.normalize(" 제주 Travel ")).isEqualTo("제주travel");
+	}
+}